@@ -0,0 +1,48 @@
+package sample.cafekiosk.spring.api.controller.order.response;
+
+import org.openjdk.jmh.annotations.*;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+
+/**
+ * 주문 응답(OrderResponse.of) 변환 비용을 주문 상품 수별로 잰다. DB 없이 메모리의 엔티티만 변환한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderResponseBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        List<Product> products = IntStream.range(0, itemCount)
+                .mapToObj(i -> Product.builder()
+                        .productNumber(String.format("%03d", i + 1))
+                        .type(ProductType.HANDMADE)
+                        .sellingStatus(SELLING)
+                        .name("메뉴 이름")
+                        .price(1000)
+                        .build())
+                .collect(Collectors.toList());
+        order = Order.create(products, LocalDateTime.of(2023, 11, 6, 10, 0));
+    }
+
+    @Benchmark
+    public OrderResponse of() {
+        return OrderResponse.of(order);
+    }
+
+}
@@ -0,0 +1,70 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 1,000만 건의 주문 금액을 합산하는 처리량을 잰다. (주문 금액은 long, 평균 약 1만원, 합계는 약 1,000억원)
+ * int로 합하면 21억을 넘는 순간 넘치므로 long 합계와 값이 달라지고, long으로 바꿔도 반복문 합산 속도는 거의 같다.
+ * 한 번에 여러 달의 주문을 합해야 할 때 쓸 수 있도록 병렬 합산도 함께 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderAmountSumBenchmark {
+
+    private static final int ORDER_COUNT = 10_000_000;
+
+    private long[] totalPrices;
+
+    private int[] intTotalPrices;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        totalPrices = new long[ORDER_COUNT];
+        intTotalPrices = new int[ORDER_COUNT];
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            int totalPrice = 1_000 + random.nextInt(19_000);
+            totalPrices[i] = totalPrice;
+            intTotalPrices[i] = totalPrice;
+        }
+    }
+
+    // 넘치는 것을 보여 주기 위한 기존 방식
+    @Benchmark
+    public int sumAsInt() {
+        int sum = 0;
+        for (int totalPrice : intTotalPrices) {
+            sum += totalPrice;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumAsLong() {
+        long sum = 0;
+        for (long totalPrice : totalPrices) {
+            sum += totalPrice;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumIntAsLong() {
+        long sum = 0;
+        for (int totalPrice : intTotalPrices) {
+            sum += totalPrice;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumAsLongParallel() {
+        return Arrays.stream(totalPrices).parallel().sum();
+    }
+
+}
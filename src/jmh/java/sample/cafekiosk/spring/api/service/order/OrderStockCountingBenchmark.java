@@ -0,0 +1,49 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.openjdk.jmh.annotations.*;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+
+/**
+ * 주문할 때 재고를 차감할 상품번호별 수량을 세는(createStockCountingMapBy) 비용을 잰다.
+ * 상품 타입은 제조 음료, 병 음료, 베이커리를 번갈아 쓰고, 같은 상품이 두 번씩 들어간다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderStockCountingBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        ProductType[] types = ProductType.values();
+        int distinctCount = Math.max(1, itemCount / 2);
+        products = IntStream.range(0, itemCount)
+                .mapToObj(i -> Product.builder()
+                        .productNumber(String.format("%03d", i % distinctCount + 1))
+                        .type(types[i % distinctCount % types.length])
+                        .sellingStatus(SELLING)
+                        .name("메뉴 이름")
+                        .price(1000)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Map<String, Integer> createStockCountingMapBy() {
+        return OrderService.createStockCountingMapBy(products);
+    }
+
+}
@@ -0,0 +1,50 @@
+package sample.cafekiosk.spring.domain.order;
+
+import org.openjdk.jmh.annotations.*;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+
+/**
+ * 주문 생성(총 금액 계산 + OrderProduct 생성) 비용을 주문 상품 수별로 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderCreateBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private List<Product> products;
+
+    private LocalDateTime registeredDateTime;
+
+    @Setup
+    public void setUp() {
+        ProductType[] types = ProductType.values();
+        products = IntStream.range(0, itemCount)
+                .mapToObj(i -> Product.builder()
+                        .productNumber(String.format("%03d", i + 1))
+                        .type(types[i % types.length])
+                        .sellingStatus(SELLING)
+                        .name("메뉴 이름")
+                        .price(1000 + i)
+                        .build())
+                .collect(Collectors.toList());
+        registeredDateTime = LocalDateTime.of(2023, 11, 6, 10, 0);
+    }
+
+    @Benchmark
+    public Order create() {
+        return Order.create(products, registeredDateTime);
+    }
+
+}
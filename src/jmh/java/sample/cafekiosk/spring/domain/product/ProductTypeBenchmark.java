@@ -0,0 +1,23 @@
+package sample.cafekiosk.spring.domain.product;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 상품마다 호출되는 ProductType.containsStockType 비용을 타입별로 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductTypeBenchmark {
+
+    @Param({"HANDMADE", "BOTTLE", "BAKERY"})
+    private ProductType type;
+
+    @Benchmark
+    public boolean containsStockType() {
+        return ProductType.containsStockType(type);
+    }
+
+}
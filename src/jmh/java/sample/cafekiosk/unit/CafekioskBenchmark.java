@@ -0,0 +1,88 @@
+package sample.cafekiosk.unit;
+
+import org.openjdk.jmh.annotations.*;
+import sample.cafekiosk.unit.beverages.Americano;
+import sample.cafekiosk.unit.beverages.Latte;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단체 주문처럼 음료를 많이 담은 상태에서, 화면을 누를 때마다 일어나는 "한 잔 담고 총 금액 다시 계산하기"와 "한 잔 빼고 다시 계산하기" 비용을 잰다.
+ * 수량으로 모아 담는 Cafekiosk와, 한 잔마다 리스트에 넣고 매번 전체를 합산하던 이전 방식(ListCart)을 비교한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CafekioskBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int beverageCount;
+
+    private final Americano americano = new Americano();
+
+    private final Latte latte = new Latte();
+
+    private Cafekiosk cafekiosk;
+
+    private ListCart listCart;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        cafekiosk = new Cafekiosk();
+        cafekiosk.add(americano, beverageCount);
+        cafekiosk.add(latte, beverageCount);
+
+        listCart = new ListCart();
+        listCart.add(americano, beverageCount);
+        listCart.add(latte, beverageCount);
+    }
+
+    // 리스트에서는 앞쪽 원소를 뺄수록 뒤의 원소를 많이 당겨야 하므로, 먼저 담은 아메리카노로 잰다.
+    @Benchmark
+    public int cafekioskTap() {
+        cafekiosk.add(americano);
+        int totalPrice = cafekiosk.calculateTotalPrice();
+        cafekiosk.remove(americano);
+        return totalPrice + cafekiosk.calculateTotalPrice();
+    }
+
+    @Benchmark
+    public int listCartTap() {
+        listCart.add(americano);
+        int totalPrice = listCart.calculateTotalPrice();
+        listCart.remove(americano);
+        return totalPrice + listCart.calculateTotalPrice();
+    }
+
+    /**
+     * 수량으로 모으기 전의 Cafekiosk 장바구니.
+     */
+    private static class ListCart {
+
+        private final List<Beverage> beverages = new ArrayList<>();
+
+        void add(Beverage beverage) {
+            beverages.add(beverage);
+        }
+
+        void add(Beverage beverage, int count) {
+            for (int i = 0; i < count; i++) {
+                beverages.add(beverage);
+            }
+        }
+
+        void remove(Beverage beverage) {
+            beverages.remove(beverage);
+        }
+
+        int calculateTotalPrice() {
+            return beverages.stream()
+                    .mapToInt(Beverage::getPrice)
+                    .sum();
+        }
+
+    }
+
+}
@@ -0,0 +1,81 @@
+package sample.cafekiosk.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 측정 결과. 응답 시간은 요청을 보냈어야 할 시각부터 재므로, 서버가 밀려서 늦게 보낸 시간도 포함된다.
+ */
+public class EndpointStats {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Histogram latencyMicros = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final Map<String, LongAdder> resultCounts = new ConcurrentHashMap<>();
+
+    public void record(long latencyNanos, int statusCode) {
+        record(latencyNanos, Integer.toString(statusCode), statusCode >= 400);
+    }
+
+    public void recordFailure(long latencyNanos, Throwable throwable) {
+        record(latencyNanos, throwable.getClass().getSimpleName(), true);
+    }
+
+    public void recordDropped() {
+        droppedCount.increment();
+    }
+
+    private void record(long latencyNanos, String result, boolean error) {
+        latencyMicros.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_LATENCY_MICROS));
+        requestCount.increment();
+        if (error) {
+            errorCount.increment();
+        }
+        resultCounts.computeIfAbsent(result, key -> new LongAdder()).increment();
+    }
+
+    public void add(EndpointStats other) {
+        latencyMicros.add(other.latencyMicros);
+        requestCount.add(other.requestCount.sum());
+        errorCount.add(other.errorCount.sum());
+        droppedCount.add(other.droppedCount.sum());
+        other.resultCounts.forEach((result, count) ->
+                resultCounts.computeIfAbsent(result, key -> new LongAdder()).add(count.sum()));
+    }
+
+    public Map<String, Object> toReport(double elapsedSeconds) {
+        long requests = requestCount.sum();
+        long errors = errorCount.sum();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("requests", requests);
+        report.put("errors", errors);
+        report.put("dropped", droppedCount.sum());
+        report.put("errorRate", requests == 0 ? 0.0 : (double) errors / requests);
+        report.put("throughputPerSecond", requests / elapsedSeconds);
+        report.put("p50Ms", percentileMillis(50.0));
+        report.put("p99Ms", percentileMillis(99.0));
+        report.put("p999Ms", percentileMillis(99.9));
+        report.put("maxMs", latencyMicros.getMaxValue() / 1000.0);
+
+        Map<String, Long> results = new TreeMap<>();
+        resultCounts.forEach((result, count) -> results.put(result, count.sum()));
+        report.put("results", results);
+        return report;
+    }
+
+    private double percentileMillis(double percentile) {
+        return latencyMicros.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+}
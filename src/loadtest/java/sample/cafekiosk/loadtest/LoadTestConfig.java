@@ -0,0 +1,120 @@
+package sample.cafekiosk.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정. 인자는 --key=value 형식이다.
+ * <pre>
+ * --base-url=http://localhost:8080
+ * --rate=200                 초당 요청 수 (전체 엔드포인트 합)
+ * --duration=60s             측정 시간
+ * --warmup=10s               측정 전 워밍업 시간 (결과에서 제외)
+ * --max-in-flight=500        동시에 응답을 기다릴 수 있는 요청 수. 넘으면 보내지 않고 dropped로 센다.
+ * --mix=catalog:50,order-single:15,...   엔드포인트별 비중
+ * --report=build/reports/loadtest/report.json
+ * </pre>
+ */
+public class LoadTestConfig {
+
+    private final String baseUrl;
+    private final int rate;
+    private final Duration duration;
+    private final Duration warmup;
+    private final int maxInFlight;
+    private final Map<LoadTestScenario, Integer> mix;
+    private final Path reportPath;
+
+    private LoadTestConfig(String baseUrl, int rate, Duration duration, Duration warmup, int maxInFlight,
+                           Map<LoadTestScenario, Integer> mix, Path reportPath) {
+        this.baseUrl = baseUrl;
+        this.rate = rate;
+        this.duration = duration;
+        this.warmup = warmup;
+        this.maxInFlight = maxInFlight;
+        this.mix = mix;
+        this.reportPath = reportPath;
+    }
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            int index = arg.indexOf('=');
+            options.put(arg.substring(2, index), arg.substring(index + 1));
+        }
+
+        return new LoadTestConfig(
+                options.getOrDefault("base-url", "http://localhost:8080"),
+                Integer.parseInt(options.getOrDefault("rate", "200")),
+                parseDuration(options.getOrDefault("duration", "60s")),
+                parseDuration(options.getOrDefault("warmup", "10s")),
+                Integer.parseInt(options.getOrDefault("max-in-flight", "500")),
+                parseMix(options.get("mix")),
+                Path.of(options.getOrDefault("report", "build/reports/loadtest/report.json"))
+        );
+    }
+
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    private static Map<LoadTestScenario, Integer> parseMix(String value) {
+        Map<LoadTestScenario, Integer> mix = new EnumMap<>(LoadTestScenario.class);
+        if (value == null) {
+            for (LoadTestScenario scenario : LoadTestScenario.values()) {
+                mix.put(scenario, scenario.getDefaultWeight());
+            }
+            return mix;
+        }
+
+        for (String entry : value.split(",")) {
+            String[] tokens = entry.split(":");
+            mix.put(LoadTestScenario.fromName(tokens[0].trim()), Integer.parseInt(tokens[1].trim()));
+        }
+        return mix;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public int getRate() {
+        return rate;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public Map<LoadTestScenario, Integer> getMix() {
+        return mix;
+    }
+
+    public Path getReportPath() {
+        return reportPath;
+    }
+
+}
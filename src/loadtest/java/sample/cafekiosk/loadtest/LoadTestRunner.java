@@ -0,0 +1,178 @@
+package sample.cafekiosk.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 로컬에서 띄운 CafekioskApplication에 섞인 요청을 일정한 속도로 보내고, 엔드포인트별 지연 시간과 처리량, 에러율을 JSON으로 남긴다.
+ * 응답을 기다리지 않고 정해진 시각마다 요청을 보내므로(open model) 서버가 느려져도 보내는 속도는 줄지 않는다.
+ * <pre>
+ * ./gradlew bootRun --args='--spring.profiles.active=local,loadtest'
+ * ./gradlew loadTest -PloadTestArgs="--rate=300 --duration=2m"
+ * </pre>
+ */
+public class LoadTestRunner {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestConfig config;
+
+    private final HttpClient httpClient;
+
+    private final Semaphore inFlight;
+
+    private final Map<LoadTestScenario, EndpointStats> stats = new EnumMap<>(LoadTestScenario.class);
+
+    private final LoadTestScenario[] weightedScenarios;
+
+    public LoadTestRunner(LoadTestConfig config, ExecutorService executorService) {
+        this.config = config;
+        this.httpClient = HttpClient.newBuilder()
+                .executor(executorService)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.inFlight = new Semaphore(config.getMaxInFlight());
+        this.weightedScenarios = createWeightedScenarios(config.getMix());
+        config.getMix().keySet().forEach(scenario -> stats.put(scenario, new EndpointStats()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        ExecutorService executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+        try {
+            Map<String, Object> report = new LoadTestRunner(config, executorService).run();
+            writeReport(config, report);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    public Map<String, Object> run() throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.getRate();
+        long startNanos = System.nanoTime();
+        long measureStartNanos = startNanos + config.getWarmup().toNanos();
+        long endNanos = measureStartNanos + config.getDuration().toNanos();
+        Random random = new Random();
+        Instant startedAt = Instant.now();
+
+        System.out.printf("%s에 초당 %d건, 워밍업 %s + 측정 %s 동안 요청합니다.%n",
+                config.getBaseUrl(), config.getRate(), config.getWarmup(), config.getDuration());
+
+        for (long i = 0; ; i++) {
+            long scheduledNanos = startNanos + i * intervalNanos;
+            if (scheduledNanos >= endNanos) {
+                break;
+            }
+            waitUntil(scheduledNanos);
+
+            LoadTestScenario scenario = weightedScenarios[random.nextInt(weightedScenarios.length)];
+            boolean measured = scheduledNanos >= measureStartNanos;
+            send(scenario, random, scheduledNanos, measured);
+        }
+
+        // 측정이 끝난 뒤 남은 응답을 기다린다.
+        inFlight.tryAcquire(config.getMaxInFlight(), REQUEST_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        return createReport(startedAt);
+    }
+
+    private void send(LoadTestScenario scenario, Random random, long scheduledNanos, boolean measured) {
+        EndpointStats endpointStats = stats.get(scenario);
+        if (!inFlight.tryAcquire()) {
+            if (measured) {
+                endpointStats.recordDropped();
+            }
+            return;
+        }
+
+        HttpRequest request = scenario.request(config.getBaseUrl(), random, REQUEST_TIMEOUT);
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, throwable) -> {
+                    inFlight.release();
+                    if (!measured) {
+                        return;
+                    }
+
+                    long latencyNanos = System.nanoTime() - scheduledNanos;
+                    if (throwable != null) {
+                        endpointStats.recordFailure(latencyNanos, throwable);
+                        return;
+                    }
+                    endpointStats.record(latencyNanos, response.statusCode());
+                });
+    }
+
+    private Map<String, Object> createReport(Instant startedAt) {
+        double elapsedSeconds = config.getDuration().toNanos() / 1_000_000_000.0;
+        EndpointStats total = new EndpointStats();
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        stats.forEach((scenario, endpointStats) -> {
+            endpoints.put(scenario.getName(), endpointStats.toReport(elapsedSeconds));
+            total.add(endpointStats);
+        });
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("baseUrl", config.getBaseUrl());
+        settings.put("ratePerSecond", config.getRate());
+        settings.put("warmupSeconds", config.getWarmup().toSeconds());
+        settings.put("durationSeconds", config.getDuration().toSeconds());
+        settings.put("maxInFlight", config.getMaxInFlight());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        config.getMix().forEach((scenario, weight) -> mix.put(scenario.getName(), weight));
+        settings.put("mix", mix);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", startedAt.toString());
+        report.put("settings", settings);
+        report.put("total", total.toReport(elapsedSeconds));
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    private static void writeReport(LoadTestConfig config, Map<String, Object> report) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        String json = objectMapper.writeValueAsString(report);
+
+        if (config.getReportPath().getParent() != null) {
+            Files.createDirectories(config.getReportPath().getParent());
+        }
+        Files.writeString(config.getReportPath(), json);
+
+        System.out.println(json);
+        System.out.println("결과: " + config.getReportPath().toAbsolutePath());
+    }
+
+    private static LoadTestScenario[] createWeightedScenarios(Map<LoadTestScenario, Integer> mix) {
+        List<LoadTestScenario> scenarios = new ArrayList<>();
+        mix.forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                scenarios.add(scenario);
+            }
+        });
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("요청 비중이 모두 0입니다.");
+        }
+        return scenarios.toArray(new LoadTestScenario[0]);
+    }
+
+    private static void waitUntil(long deadlineNanos) {
+        long remainingNanos;
+        while ((remainingNanos = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remainingNanos);
+        }
+    }
+
+}
@@ -0,0 +1,135 @@
+package sample.cafekiosk.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트가 보내는 요청 종류. 상품번호는 loadtest 프로필의 loadtest-data.sql에 맞춘다.
+ * 101~120은 재고가 없는 제조 음료, 121~140은 재고가 있는 병 음료와 베이커리다.
+ */
+public enum LoadTestScenario {
+
+    CATALOG("catalog", 50) {
+        @Override
+        HttpRequest.Builder create(Random random) {
+            return HttpRequest.newBuilder().GET().header("Accept-Encoding", "gzip");
+        }
+
+        @Override
+        String path() {
+            return "/api/v1/products/selling";
+        }
+    },
+    ORDER_SINGLE("order-single", 15) {
+        @Override
+        HttpRequest.Builder create(Random random) {
+            return order(List.of(handmade(random)));
+        }
+    },
+    ORDER_MULTI("order-multi", 10) {
+        @Override
+        HttpRequest.Builder create(Random random) {
+            int itemCount = 2 + random.nextInt(4); // 2~5개
+            List<String> productNumbers = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                productNumbers.add(handmade(random));
+            }
+            return order(productNumbers);
+        }
+    },
+    ORDER_STOCKED_SINGLE("order-stocked-single", 10) {
+        @Override
+        HttpRequest.Builder create(Random random) {
+            return order(List.of(stocked(random)));
+        }
+    },
+    ORDER_STOCKED_MULTI("order-stocked-multi", 10) {
+        @Override
+        HttpRequest.Builder create(Random random) {
+            int itemCount = 2 + random.nextInt(4); // 2~5개
+            List<String> productNumbers = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                productNumbers.add(random.nextBoolean() ? stocked(random) : handmade(random));
+            }
+            return order(productNumbers);
+        }
+    },
+    PRODUCT_CREATE("product-create", 5) {
+        @Override
+        HttpRequest.Builder create(Random random) {
+            String body = String.format("{\"type\":\"HANDMADE\",\"sellingStatus\":\"HOLD\",\"name\":\"부하테스트 신메뉴 %d\",\"price\":%d}",
+                    random.nextInt(1_000_000), 1000 + random.nextInt(10) * 500);
+            return json(body);
+        }
+
+        @Override
+        String path() {
+            return "/api/v1/products/new";
+        }
+    };
+
+    private final String name;
+    private final int defaultWeight;
+
+    LoadTestScenario(String name, int defaultWeight) {
+        this.name = name;
+        this.defaultWeight = defaultWeight;
+    }
+
+    public static LoadTestScenario fromName(String name) {
+        for (LoadTestScenario scenario : values()) {
+            if (scenario.name.equals(name)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 요청 종류입니다: " + name);
+    }
+
+    public HttpRequest request(String baseUrl, Random random, Duration timeout) {
+        return create(random)
+                .uri(URI.create(baseUrl + path()))
+                .timeout(timeout)
+                .build();
+    }
+
+    abstract HttpRequest.Builder create(Random random);
+
+    String path() {
+        return "/api/v1/orders/new";
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    private static HttpRequest.Builder order(List<String> productNumbers) {
+        String body = productNumbers.stream()
+                .map(productNumber -> "\"" + productNumber + "\"")
+                .collect(Collectors.joining(",", "{\"productNumbers\":[", "]}"));
+        return json(body);
+    }
+
+    private static HttpRequest.Builder json(String body) {
+        return HttpRequest.newBuilder()
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private static String handmade(Random random) {
+        return Integer.toString(101 + random.nextInt(20));
+    }
+
+    private static String stocked(Random random) {
+        return Integer.toString(121 + random.nextInt(20));
+    }
+
+}
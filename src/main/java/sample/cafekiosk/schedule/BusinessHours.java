@@ -0,0 +1,169 @@
+package sample.cafekiosk.schedule;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * 매장 한 곳의 영업시간. 요일별 영업 구간(브레이크 타임이 있으면 여러 구간)과 휴무일을 일주일 분(7 x 1440분)의 비트맵으로 미리 펼쳐 두어,
+ * 주문마다 하는 영업 여부 확인은 비트 하나와 휴무일 조회 한 번으로 끝난다. 만들어진 뒤에는 바뀌지 않으므로 여러 스레드가 함께 써도 된다.
+ * 영업 구간은 시작 시각은 포함하고 종료 시각은 포함하지 않으며, 분 단위로 판단한다. 종료 시각이 시작 시각보다 이르면 다음날로 넘어가는 구간이다.
+ * 자정을 넘긴 부분은 구간이 시작된 날의 영업으로 보므로, 금요일 22:00-02:00의 토요일 새벽은 토요일이 아닌 금요일이 휴무일일 때 닫는다.
+ * 그래서 그날 시작한 구간의 분(openMinutes)과 전날에서 넘어온 분(carriedMinutes)을 따로 펼쳐 둔다.
+ */
+public class BusinessHours {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    public static final BusinessHours ALWAYS_OPEN = parse("MON-SUN 00:00-24:00");
+
+    private final long[] openMinutes;
+
+    private final long[] carriedMinutes;
+
+    private final Set<LocalDate> holidays;
+
+    private BusinessHours(long[] openMinutes, long[] carriedMinutes, Set<LocalDate> holidays) {
+        this.openMinutes = openMinutes;
+        this.carriedMinutes = carriedMinutes;
+        this.holidays = holidays;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * "MON-FRI 10:00-22:00; SAT,SUN 11:00-15:00,17:00-21:00" 형식의 주간 영업시간을 읽는다. 24:00은 자정(하루의 끝)이다.
+     */
+    public static BusinessHours parse(String weeklySchedule) {
+        return parse(weeklySchedule, List.of());
+    }
+
+    public static BusinessHours parse(String weeklySchedule, Collection<LocalDate> holidays) {
+        Builder builder = builder().holidays(holidays);
+        for (String rule : weeklySchedule.split(";")) {
+            if (rule.isBlank()) {
+                continue;
+            }
+
+            String[] tokens = rule.trim().split("\\s+", 2);
+            if (tokens.length != 2) {
+                throw new IllegalArgumentException("영업시간 형식이 올바르지 않습니다. " + rule.trim());
+            }
+            for (DayOfWeek dayOfWeek : parseDays(tokens[0])) {
+                for (String range : tokens[1].split(",")) {
+                    String[] times = range.trim().split("-");
+                    if (times.length != 2) {
+                        throw new IllegalArgumentException("영업시간 형식이 올바르지 않습니다. " + rule.trim());
+                    }
+                    builder.open(dayOfWeek, parseMinuteOfDay(times[0]), parseMinuteOfDay(times[1]));
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    public boolean isOpen(LocalDateTime dateTime) {
+        int minuteOfWeek = (dateTime.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY
+                + dateTime.getHour() * 60 + dateTime.getMinute();
+        LocalDate date = dateTime.toLocalDate();
+
+        if (isSet(openMinutes, minuteOfWeek) && !holidays.contains(date)) {
+            return true;
+        }
+        // 전날 시작해서 자정을 넘긴 구간은 전날이 휴무일인지로 판단한다.
+        return isSet(carriedMinutes, minuteOfWeek) && !holidays.contains(date.minusDays(1));
+    }
+
+    private static boolean isSet(long[] minutes, int minuteOfWeek) {
+        return (minutes[minuteOfWeek >>> 6] & (1L << minuteOfWeek)) != 0;
+    }
+
+    private static List<DayOfWeek> parseDays(String days) {
+        List<DayOfWeek> dayOfWeeks = new ArrayList<>();
+        for (String token : days.split(",")) {
+            String[] range = token.trim().split("-");
+            DayOfWeek from = parseDay(range[0]);
+            DayOfWeek to = range.length == 2 ? parseDay(range[1]) : from;
+            for (DayOfWeek day = from; ; day = day.plus(1)) {
+                dayOfWeeks.add(day);
+                if (day == to) {
+                    break;
+                }
+            }
+        }
+        return dayOfWeeks;
+    }
+
+    private static DayOfWeek parseDay(String day) {
+        String abbreviation = day.trim().toUpperCase(Locale.ROOT);
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            if (dayOfWeek.name().substring(0, 3).equals(abbreviation)) {
+                return dayOfWeek;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 요일입니다. " + day.trim());
+    }
+
+    private static int parseMinuteOfDay(String time) {
+        if ("24:00".equals(time.trim())) {
+            return MINUTES_PER_DAY;
+        }
+        LocalTime localTime = LocalTime.parse(time.trim());
+        return localTime.getHour() * 60 + localTime.getMinute();
+    }
+
+    public static class Builder {
+
+        private final long[] openMinutes = new long[(MINUTES_PER_WEEK + 63) / 64];
+
+        private final long[] carriedMinutes = new long[(MINUTES_PER_WEEK + 63) / 64];
+
+        private final Set<LocalDate> holidays = new HashSet<>();
+
+        private Builder() {
+        }
+
+        public Builder open(DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+            int endMinute = endTime.equals(LocalTime.MIDNIGHT) ? MINUTES_PER_DAY : endTime.getHour() * 60 + endTime.getMinute();
+            return open(dayOfWeek, startTime.getHour() * 60 + startTime.getMinute(), endMinute);
+        }
+
+        public Builder holiday(LocalDate date) {
+            holidays.add(date);
+            return this;
+        }
+
+        public Builder holidays(Collection<LocalDate> dates) {
+            holidays.addAll(dates);
+            return this;
+        }
+
+        public BusinessHours build() {
+            return new BusinessHours(openMinutes.clone(), carriedMinutes.clone(), Set.copyOf(holidays));
+        }
+
+        private Builder open(DayOfWeek dayOfWeek, int startMinute, int endMinute) {
+            if (startMinute == endMinute) {
+                throw new IllegalArgumentException("영업 시작 시각과 종료 시각이 같습니다.");
+            }
+
+            // 자정을 넘기는 구간은 다음날 0시부터 carriedMinutes에 이어서 채운다. 일요일 다음은 월요일이다.
+            int dayOffset = (dayOfWeek.getValue() - 1) * MINUTES_PER_DAY;
+            int length = endMinute > startMinute ? endMinute - startMinute : MINUTES_PER_DAY - startMinute + endMinute;
+            for (int i = 0; i < length; i++) {
+                int minuteOfDay = startMinute + i;
+                int minuteOfWeek = (dayOffset + minuteOfDay) % MINUTES_PER_WEEK;
+                long[] minutes = minuteOfDay < MINUTES_PER_DAY ? openMinutes : carriedMinutes;
+                minutes[minuteOfWeek >>> 6] |= 1L << minuteOfWeek;
+            }
+            return this;
+        }
+
+    }
+
+}
@@ -0,0 +1,35 @@
+package sample.cafekiosk.schedule;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장별 영업시간. 영업시간이 바뀌면 새로 만든 BusinessHours로 통째로 바꾼다.
+ * 읽는 쪽은 잠금 없이 그 시점의 BusinessHours 하나를 보므로, 바꾸는 도중에 두 영업시간이 섞여 보이지 않는다.
+ */
+public class BusinessHoursRegistry {
+
+    private final Map<String, BusinessHours> businessHoursByStore = new ConcurrentHashMap<>();
+
+    public void register(String storeId, BusinessHours businessHours) {
+        businessHoursByStore.put(storeId, businessHours);
+    }
+
+    public void remove(String storeId) {
+        businessHoursByStore.remove(storeId);
+    }
+
+    public BusinessHours get(String storeId) {
+        BusinessHours businessHours = businessHoursByStore.get(storeId);
+        if (businessHours == null) {
+            throw new IllegalArgumentException("영업시간이 등록되지 않은 매장입니다.");
+        }
+        return businessHours;
+    }
+
+    public boolean isOpen(String storeId, LocalDateTime dateTime) {
+        return get(storeId).isOpen(dateTime);
+    }
+
+}
@@ -1,10 +1,14 @@
 package sample.cafekiosk.spring.api;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import sample.cafekiosk.spring.api.service.order.OrderQueueFullException;
+import sample.cafekiosk.spring.api.service.order.OrderTimeoutException;
 
 @RestControllerAdvice
 public class ApiControllerAdvice {
@@ -19,5 +23,33 @@ public class ApiControllerAdvice {
         );
     }
 
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ApiResponse<Object> illegalArgumentException(IllegalArgumentException e) {
+        return ApiResponse.of(
+                HttpStatus.BAD_REQUEST,
+                e.getMessage(),
+                null
+        );
+    }
+
+    // 서버가 밀려 있는 것이므로 클라이언트가 Retry-After만큼 기다렸다가 다시 보내도록 한다.
+    @ExceptionHandler(OrderQueueFullException.class)
+    public ResponseEntity<ApiResponse<Object>> orderQueueFullException(OrderQueueFullException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Integer.toString(e.getRetryAfterSeconds()))
+                .body(ApiResponse.of(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), null));
+    }
+
+    // 주문이 이미 실행 중이라 등록됐을 수 있으므로 Retry-After를 주지 않는다.
+    @ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+    @ExceptionHandler(OrderTimeoutException.class)
+    public ApiResponse<Object> orderTimeoutException(OrderTimeoutException e) {
+        return ApiResponse.of(
+                HttpStatus.GATEWAY_TIMEOUT,
+                e.getMessage(),
+                null
+        );
+    }
 
 }
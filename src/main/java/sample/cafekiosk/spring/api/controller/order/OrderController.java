@@ -1,17 +1,23 @@
 package sample.cafekiosk.spring.api.controller.order;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.controller.order.request.OrderBatchCreateRequest;
 import sample.cafekiosk.spring.api.controller.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.controller.order.response.OrderBatchResponse;
+import sample.cafekiosk.spring.api.controller.order.response.OrderPageResponse;
 import sample.cafekiosk.spring.api.controller.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.order.OrderCreateExecutor;
+import sample.cafekiosk.spring.api.service.order.OrderQueueFullException;
 import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.OrderTimeoutException;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
 
 import javax.validation.Valid;
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -19,11 +25,52 @@ import java.time.LocalDateTime;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderCreateExecutor orderCreateExecutor;
 
+    /**
+     * 주문 등록은 주문 전용 pool에서 실행하고, 요청 스레드는 결과를 기다리지 않고 돌아간다. 대기열이 가득 차면 503과 Retry-After로 응답한다.
+     * 응답 시간이 지났을 때 주문이 아직 대기열에 있으면 취소하고 503과 Retry-After로 응답한다.
+     * 이미 실행 중이면 등록될 수 있으므로 다시 보내라고 하지 않고 504로 응답한다(OrderTimeoutException).
+     */
     @PostMapping("/orders/new")
-    public ApiResponse<OrderResponse> createOrder(@Valid @RequestBody OrderCreateRequest orderCreateRequest) {
+    public DeferredResult<ApiResponse<OrderResponse>> createOrder(@Valid @RequestBody OrderCreateRequest orderCreateRequest) {
         LocalDateTime registeredDateTime = LocalDateTime.now();
-        return ApiResponse.ok(orderService.createOrder(orderCreateRequest.toServiceRequest(), registeredDateTime));
+        CompletableFuture<OrderResponse> future = orderCreateExecutor.submit(orderCreateRequest.toServiceRequest(), registeredDateTime);
+
+        DeferredResult<ApiResponse<OrderResponse>> result = new DeferredResult<>(orderCreateExecutor.getTimeoutMillis());
+        result.onTimeout(() -> {
+            if (future.cancel(false)) {
+                result.setErrorResult(new OrderQueueFullException(orderCreateExecutor.getRetryAfterSeconds()));
+                return;
+            }
+            result.setErrorResult(new OrderTimeoutException());
+        });
+        future.whenComplete((orderResponse, e) -> {
+            if (e != null) {
+                result.setErrorResult(e);
+                return;
+            }
+            result.setResult(ApiResponse.ok(orderResponse));
+        });
+        return result;
+    }
+
+    @PostMapping("/orders/batch")
+    public ApiResponse<OrderBatchResponse> createOrders(@Valid @RequestBody OrderBatchCreateRequest orderBatchCreateRequest) {
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        return ApiResponse.ok(orderService.createOrders(orderBatchCreateRequest.toServiceRequest(), registeredDateTime));
+    }
+
+    @GetMapping("/orders/{orderId}")
+    public ApiResponse<OrderResponse> getOrder(@PathVariable Long orderId) {
+        return ApiResponse.ok(orderService.getOrder(orderId));
+    }
+
+    @GetMapping("/orders")
+    public ApiResponse<OrderPageResponse> getOrders(@RequestParam(required = false) OrderStatus status,
+                                                    @RequestParam(required = false) String cursor,
+                                                    @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.ok(orderService.getOrders(status, cursor, size));
     }
 
 }
@@ -0,0 +1,49 @@
+package sample.cafekiosk.spring.api.controller.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import sample.cafekiosk.spring.api.service.order.OrderExportFormat;
+import sample.cafekiosk.spring.api.service.order.OrderExportService;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class OrderExportController {
+
+    private final OrderExportService orderExportService;
+
+    /**
+     * 응답 본문을 만들어 두지 않고 DB에서 읽는 대로 chunked 응답으로 내려준다.
+     * 클라이언트가 받는 속도만큼만 커서를 읽으므로, 클라이언트가 느리면 그동안 DB 커넥션 하나를 계속 쥐고 있다.
+     * spring.mvc.async.request-timeout이 지나면 응답을 끊어서 커넥션을 돌려준다.
+     */
+    @GetMapping("/orders/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDateTime,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDateTime,
+            @RequestParam(defaultValue = "CSV") OrderExportFormat format) {
+        orderExportService.checkPeriod(startDateTime, endDateTime);
+
+        String filename = String.format("orders-%s-%s.%s",
+                startDateTime.toLocalDate(), endDateTime.toLocalDate(), format.getExtension());
+        StreamingResponseBody body = outputStream ->
+                orderExportService.export(startDateTime, endDateTime, format, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+}
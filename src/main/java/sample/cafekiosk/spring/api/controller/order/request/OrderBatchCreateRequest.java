@@ -0,0 +1,36 @@
+package sample.cafekiosk.spring.api.controller.order.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.api.service.order.request.OrderBatchCreateServiceRequest;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@NoArgsConstructor
+public class OrderBatchCreateRequest {
+
+    @Valid
+    @NotEmpty(message = "주문 리스트는 필수입니다.")
+    @Size(max = 1000, message = "한 번에 등록할 수 있는 주문은 최대 1000건입니다.")
+    private List<OrderCreateRequest> orders;
+
+    @Builder
+    public OrderBatchCreateRequest(List<OrderCreateRequest> orders) {
+        this.orders = orders;
+    }
+
+    public OrderBatchCreateServiceRequest toServiceRequest() {
+        return OrderBatchCreateServiceRequest.builder()
+                .orders(this.orders.stream()
+                        .map(OrderCreateRequest::toServiceRequest)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+}
@@ -0,0 +1,36 @@
+package sample.cafekiosk.spring.api.controller.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class OrderBatchResponse {
+
+    private int successCount;
+
+    private int failureCount;
+
+    private List<OrderBatchResult> results;
+
+    @Builder
+    private OrderBatchResponse(int successCount, int failureCount, List<OrderBatchResult> results) {
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+        this.results = results;
+    }
+
+    public static OrderBatchResponse of(List<OrderBatchResult> results) {
+        int successCount = (int) results.stream()
+                .filter(OrderBatchResult::isSuccess)
+                .count();
+
+        return OrderBatchResponse.builder()
+                .successCount(successCount)
+                .failureCount(results.size() - successCount)
+                .results(results)
+                .build();
+    }
+
+}
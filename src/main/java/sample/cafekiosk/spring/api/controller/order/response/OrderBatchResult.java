@@ -0,0 +1,44 @@
+package sample.cafekiosk.spring.api.controller.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 일괄 주문 중 한 건의 처리 결과. index는 요청 리스트에서의 위치이다.
+ */
+@Getter
+public class OrderBatchResult {
+
+    private int index;
+
+    private boolean success;
+
+    private OrderResponse order;
+
+    private String message;
+
+    @Builder
+    private OrderBatchResult(int index, boolean success, OrderResponse order, String message) {
+        this.index = index;
+        this.success = success;
+        this.order = order;
+        this.message = message;
+    }
+
+    public static OrderBatchResult success(int index, OrderResponse order) {
+        return OrderBatchResult.builder()
+                .index(index)
+                .success(true)
+                .order(order)
+                .build();
+    }
+
+    public static OrderBatchResult failure(int index, String message) {
+        return OrderBatchResult.builder()
+                .index(index)
+                .success(false)
+                .message(message)
+                .build();
+    }
+
+}
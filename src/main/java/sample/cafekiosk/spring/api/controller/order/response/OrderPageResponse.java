@@ -0,0 +1,28 @@
+package sample.cafekiosk.spring.api.controller.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class OrderPageResponse {
+
+    private List<OrderSummaryResponse> orders;
+
+    private int size;
+
+    private boolean hasNext;
+
+    // 다음 페이지를 요청할 때 cursor로 그대로 넘긴다. 마지막 페이지면 null
+    private String nextCursor;
+
+    @Builder
+    private OrderPageResponse(List<OrderSummaryResponse> orders, int size, boolean hasNext, String nextCursor) {
+        this.orders = orders;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+}
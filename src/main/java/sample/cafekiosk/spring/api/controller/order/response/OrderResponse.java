@@ -14,14 +14,14 @@ public class OrderResponse {
 
     private Long id;
 
-    private int totalPrice;
+    private long totalPrice;
 
     private LocalDateTime registeredDateTime;
 
     private List<ProductResponse> products;
 
     @Builder
-    private OrderResponse(Long id, int totalPrice, LocalDateTime registeredDateTime, List<ProductResponse> products) {
+    private OrderResponse(Long id, long totalPrice, LocalDateTime registeredDateTime, List<ProductResponse> products) {
         this.id = id;
         this.totalPrice = totalPrice;
         this.registeredDateTime = registeredDateTime;
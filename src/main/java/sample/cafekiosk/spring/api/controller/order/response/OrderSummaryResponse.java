@@ -0,0 +1,38 @@
+package sample.cafekiosk.spring.api.controller.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.order.OrderSummary;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class OrderSummaryResponse {
+
+    private Long id;
+
+    private OrderStatus orderStatus;
+
+    private long totalPrice;
+
+    private LocalDateTime registeredDateTime;
+
+    @Builder
+    private OrderSummaryResponse(Long id, OrderStatus orderStatus, long totalPrice, LocalDateTime registeredDateTime) {
+        this.id = id;
+        this.orderStatus = orderStatus;
+        this.totalPrice = totalPrice;
+        this.registeredDateTime = registeredDateTime;
+    }
+
+    public static OrderSummaryResponse of(OrderSummary orderSummary) {
+        return OrderSummaryResponse.builder()
+                .id(orderSummary.getId())
+                .orderStatus(orderSummary.getOrderStatus())
+                .totalPrice(orderSummary.getTotalPrice())
+                .registeredDateTime(orderSummary.getRegisteredDateTime())
+                .build();
+    }
+
+}
@@ -1,14 +1,18 @@
 package sample.cafekiosk.spring.api.controller.product;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import sample.cafekiosk.spring.api.ApiResponse;
 import sample.cafekiosk.spring.api.controller.product.dto.request.ProductCreateRequest;
 import sample.cafekiosk.spring.api.service.product.ProductService;
+import sample.cafekiosk.spring.api.service.product.response.ProductCatalogSnapshot;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
 
 import javax.validation.Valid;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -22,10 +26,42 @@ public class ProductController {
         return ApiResponse.ok(productService.createProduct(request.toServiceRequest()));
     }
 
+    /**
+     * 키오스크가 주기적으로 호출하는 API라서, 미리 인코딩해 둔 본문을 그대로 내려주고 목록이 바뀌지 않았으면 304로 응답한다.
+     */
     @GetMapping("/products/selling")
-    public ApiResponse<List<ProductResponse>> getSellingProducts() {
-        return ApiResponse.ok(productService.getSellingProducts());
+    public ResponseEntity<byte[]> getSellingProducts(WebRequest webRequest) {
+        ProductCatalogSnapshot catalog = productService.getSellingProductCatalog();
+        boolean gzip = acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String eTag = gzip ? catalog.getGzipETag() : catalog.getETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(catalog.getGzipBody());
+        }
+        return response.body(catalog.getBody());
     }
 
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String encoding : acceptEncoding.split(",")) {
+            String[] tokens = encoding.trim().split(";");
+            if ("gzip".equalsIgnoreCase(tokens[0].trim())) {
+                return tokens.length == 1 || !tokens[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
 
 }
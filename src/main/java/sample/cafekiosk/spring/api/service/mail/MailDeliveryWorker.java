@@ -0,0 +1,159 @@
+package sample.cafekiosk.spring.api.service.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.client.mail.MailSendClient;
+import sample.cafekiosk.spring.domain.mail.MailOutbox;
+import sample.cafekiosk.spring.domain.mail.MailOutboxRepository;
+import sample.cafekiosk.spring.domain.mail.MailOutboxStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * outbox의 메일을 점유(claim)하고 실제로 전송한다.
+ * 메일 서버 호출은 트랜잭션 밖에서 하고, 결과만 짧은 트랜잭션으로 반영한다. 전송 이력은 MailSendHistoryWriter가 모아서 저장하면서 outbox 행도 지운다.
+ * 실패하면 지수 백오프로 다시 시도하고, maxAttempts번 실패하면 FAILED로 남긴다.
+ * 점유할 때 발급한 leaseToken이 그대로일 때만 결과를 반영하므로, 점유가 끝나 다른 worker가 가져간 메일은 건드리지 않는다.
+ */
+@Slf4j
+@Component
+public class MailDeliveryWorker {
+
+    private static final List<MailOutboxStatus> CLAIMABLE_STATUSES = List.of(MailOutboxStatus.PENDING, MailOutboxStatus.SENDING);
+
+    private final MailSendClient mailSendClient;
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailSendHistoryWriter mailSendHistoryWriter;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    private final Timer deliveryLatency;
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+
+    public MailDeliveryWorker(MailSendClient mailSendClient,
+                              MailOutboxRepository mailOutboxRepository,
+                              MailSendHistoryWriter mailSendHistoryWriter,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${cafekiosk.mail.retry.max-attempts:5}") int maxAttempts,
+                              @Value("${cafekiosk.mail.retry.initial-backoff-ms:1000}") long initialBackoffMillis,
+                              @Value("${cafekiosk.mail.retry.max-backoff-ms:600000}") long maxBackoffMillis,
+                              @Value("${cafekiosk.mail.worker.lease-ms:300000}") long leaseMillis) {
+        this.mailSendClient = mailSendClient;
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSendHistoryWriter = mailSendHistoryWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.lease = Duration.ofMillis(leaseMillis);
+
+        // 메일을 outbox에 넣은 시점부터 전송에 성공하기까지 걸린 시간 (재시도 대기 포함)
+        this.deliveryLatency = Timer.builder("mail.delivery.latency")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("mail.delivery.attempts", "result", "sent");
+        this.retryCounter = meterRegistry.counter("mail.delivery.attempts", "result", "retry");
+        this.failedCounter = meterRegistry.counter("mail.delivery.attempts", "result", "failed");
+    }
+
+    /**
+     * 전송할 때가 된 메일을 최대 limit건 점유한다. 점유가 lease 안에 끝나지 않으면(worker가 죽은 경우 등) 다시 점유할 수 있다.
+     * 전송 이력 버퍼가 가득 차 있으면 보내도 이력을 남길 수 없으므로 점유하지 않고 outbox에서 기다리게 한다.
+     */
+    public MailOutboxClaim claimDue(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plus(lease);
+        String leaseToken = UUID.randomUUID().toString();
+        if (mailSendHistoryWriter.isFull()) {
+            return new MailOutboxClaim(leaseToken, List.of());
+        }
+
+        List<Long> claimedIds = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> dueIds = mailOutboxRepository.findDueIdsBy(CLAIMABLE_STATUSES, now, PageRequest.of(0, limit));
+            for (Long id : dueIds) {
+                if (mailOutboxRepository.claim(id, CLAIMABLE_STATUSES, now, MailOutboxStatus.SENDING, leaseUntil, leaseToken) > 0) {
+                    claimedIds.add(id);
+                }
+            }
+        });
+        return new MailOutboxClaim(leaseToken, claimedIds);
+    }
+
+    /**
+     * 전송할 때가 된 메일을 호출한 스레드에서 바로 전송한다. 전송을 시도한 건수를 반환한다.
+     */
+    public int deliverDue(int limit) {
+        MailOutboxClaim claim = claimDue(limit);
+        claim.getOutboxIds().forEach(outboxId -> deliver(outboxId, claim.getLeaseToken()));
+        return claim.size();
+    }
+
+    public void deliver(Long outboxId, String leaseToken) {
+        MailOutbox outbox = mailOutboxRepository.findById(outboxId).orElse(null);
+        if (outbox == null || outbox.getStatus() != MailOutboxStatus.SENDING || !leaseToken.equals(outbox.getLeaseToken())) {
+            return; // 지워졌거나 점유가 끝나 다른 worker가 가져갔다.
+        }
+
+        String error = send(outbox);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (error == null) {
+            // outbox 행은 이력이 저장될 때 같은 트랜잭션에서 지운다. 그 전까지는 SENDING으로 점유된 채 남는다.
+            mailSendHistoryWriter.write(outbox.toHistory(), outboxId, leaseToken);
+            sentCounter.increment();
+            deliveryLatency.record(Duration.between(outbox.getCreatedDateTime(), now));
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            MailOutbox current = mailOutboxRepository.findForUpdateBy(outboxId, leaseToken).orElse(null);
+            if (current == null) {
+                log.warn("메일을 보내는 동안 점유가 끝나서 실패를 반영하지 않습니다. outboxId={}, error={}", outboxId, error);
+                return;
+            }
+            if (current.getAttemptCount() + 1 >= maxAttempts) {
+                current.fail(error);
+                failedCounter.increment();
+                log.warn("메일 전송에 {}번 실패해서 중단합니다. outboxId={}, error={}", maxAttempts, outboxId, error);
+                return;
+            }
+            current.retryAt(now.plus(backoff(current.getAttemptCount() + 1)), error);
+            retryCounter.increment();
+        });
+    }
+
+    // attempt번째 실패 후 기다릴 시간: initialBackoff * 2^(attempt-1), 최대 maxBackoff
+    Duration backoff(int attempt) {
+        int shift = Math.min(attempt - 1, 30);
+        Duration backoff = initialBackoff.multipliedBy(1L << shift);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private String send(MailOutbox outbox) {
+        try {
+            boolean result = mailSendClient.sendEmail(outbox.getFromEmail(), outbox.getToEmail(), outbox.getSubject(), outbox.getContent());
+            return result ? null : "메일 서버가 전송을 거부했습니다.";
+        } catch (RuntimeException e) {
+            return e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+    }
+
+}
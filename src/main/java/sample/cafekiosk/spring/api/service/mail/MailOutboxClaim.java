@@ -0,0 +1,23 @@
+package sample.cafekiosk.spring.api.service.mail;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 한 번에 점유한 메일들과 그 점유의 leaseToken. 전송 결과는 이 leaseToken으로 점유하고 있을 때만 반영한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class MailOutboxClaim {
+
+    private final String leaseToken;
+
+    private final List<Long> outboxIds;
+
+    public int size() {
+        return outboxIds.size();
+    }
+
+}
@@ -0,0 +1,102 @@
+package sample.cafekiosk.spring.api.service.mail;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.domain.mail.MailOutboxRepository;
+import sample.cafekiosk.spring.domain.mail.MailOutboxStatus;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox를 주기적으로 확인해서 전송할 메일을 크기가 정해진 worker pool에 넘긴다.
+ * pool의 대기열에 남은 자리만큼만 점유하므로 메일 서버가 느려져도 메모리에 쌓이지 않고 outbox에서 기다린다.
+ */
+@Slf4j
+@Component
+public class MailOutboxRelay {
+
+    private final MailDeliveryWorker mailDeliveryWorker;
+    private final MailOutboxRepository mailOutboxRepository;
+    private final boolean enabled;
+    private final int batchSize;
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    public MailOutboxRelay(MailDeliveryWorker mailDeliveryWorker,
+                           MailOutboxRepository mailOutboxRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${cafekiosk.mail.relay.enabled:true}") boolean enabled,
+                           @Value("${cafekiosk.mail.relay.batch-size:50}") int batchSize,
+                           @Value("${cafekiosk.mail.worker.pool-size:4}") int poolSize,
+                           @Value("${cafekiosk.mail.worker.queue-capacity:200}") int queueCapacity) {
+        this.mailDeliveryWorker = mailDeliveryWorker;
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mail-delivery-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("mail.outbox.pending", pendingCount, AtomicLong::get)
+                .description("전송을 기다리는 outbox 메일 수")
+                .register(meterRegistry);
+        Gauge.builder("mail.delivery.queue.size", executor, e -> e.getQueue().size())
+                .description("worker pool 대기열에 있는 메일 수")
+                .register(meterRegistry);
+        Gauge.builder("mail.delivery.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${cafekiosk.mail.relay.interval-ms:1000}")
+    public void relayPeriodically() {
+        if (enabled) {
+            relay();
+        }
+    }
+
+    /**
+     * 점유한 메일을 worker pool에 넘기고, 넘긴 건수를 반환한다.
+     */
+    public int relay() {
+        pendingCount.set(mailOutboxRepository.countByStatus(MailOutboxStatus.PENDING));
+
+        int capacity = Math.min(batchSize, executor.getQueue().remainingCapacity());
+        if (capacity == 0) {
+            return 0;
+        }
+
+        MailOutboxClaim claim = mailDeliveryWorker.claimDue(capacity);
+        for (Long id : claim.getOutboxIds()) {
+            try {
+                executor.execute(() -> mailDeliveryWorker.deliver(id, claim.getLeaseToken()));
+            } catch (RejectedExecutionException e) {
+                // 점유 기간(lease)이 끝나면 다시 점유되므로 여기서는 넘기지 못한 채로 둔다.
+                log.warn("메일 전송 대기열이 가득 차서 outboxId={}를 다음 점유 때 처리합니다.", id);
+            }
+        }
+        return claim.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package sample.cafekiosk.spring.api.service.mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.domain.mail.MailOutbox;
+import sample.cafekiosk.spring.domain.mail.MailOutboxRepository;
+
+import java.time.LocalDateTime;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    /**
+     * 메일을 outbox에 저장만 하고 바로 돌아온다. 전송은 MailOutboxRelay가 worker pool에서 처리한다.
+     */
+    public Long enqueueMail(String fromEmail, String toEmail, String subject, String content) {
+        MailOutbox outbox = MailOutbox.create(fromEmail, toEmail, subject, content, LocalDateTime.now());
+        return mailOutboxRepository.save(outbox).getId();
+    }
+
+}
@@ -0,0 +1,199 @@
+package sample.cafekiosk.spring.api.service.mail;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.domain.history.mail.MailSendHistory;
+import sample.cafekiosk.spring.domain.history.mail.MailSendHistoryRepository;
+import sample.cafekiosk.spring.domain.mail.MailOutboxRepository;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 메일 전송 이력을 메모리에 모았다가 batchSize건이 차거나 flushInterval이 지나면 한 트랜잭션에서 saveAll로 저장한다.
+ * 시퀀스 id + hibernate.jdbc.batch_size 설정으로 saveAll은 JDBC 배치 insert가 된다.
+ * outbox에서 보낸 메일은 이력을 저장하는 트랜잭션에서 outbox 행도 함께 지운다. 그 전에 프로세스가 비정상 종료되면
+ * outbox 행이 남아 있으므로 점유 시간(lease)이 지난 뒤 다시 전송되고, 이력이 빠지는 일은 없다. (대신 중복 전송될 수 있다.)
+ * MailService처럼 outbox 없이 보낸 메일의 이력은 종료 전에 저장하지 못하면 유실될 수 있다.
+ * 저장에 실패하면 이력을 버퍼에 되돌려 두고 다음 flush에서 다시 시도하며, 그 예외는 메일을 보내는 쪽으로 던지지 않는다.
+ * 버퍼는 maxBufferedCount건을 넘지 않는다. 가득 차면 MailDeliveryWorker가 outbox를 더 점유하지 않고, 넘치는 이력은 버린다.
+ * outbox에서 보낸 메일의 이력은 버려도 outbox 행이 남아 있어 lease가 지난 뒤 다시 전송되므로, 되돌려 넣을 때는 outbox 없이 보낸 이력부터 남긴다.
+ */
+@Slf4j
+@Component
+public class MailSendHistoryWriter {
+
+    private final MailSendHistoryRepository mailSendHistoryRepository;
+    private final MailOutboxRepository mailOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBufferedCount;
+
+    private final Queue<PendingHistory> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferedCount = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public MailSendHistoryWriter(MailSendHistoryRepository mailSendHistoryRepository,
+                                 MailOutboxRepository mailOutboxRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${cafekiosk.mail.history.batch-size:100}") int batchSize,
+                                 @Value("${cafekiosk.mail.history.max-buffered-count:10000}") int maxBufferedCount) {
+        this.mailSendHistoryRepository = mailSendHistoryRepository;
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBufferedCount = maxBufferedCount;
+    }
+
+    public void write(MailSendHistory history) {
+        write(history, null, null);
+    }
+
+    /**
+     * 이력을 저장할 때 outboxId의 outbox 행을 같은 트랜잭션에서 지운다. 그때도 leaseToken으로 점유하고 있을 때만 지운다.
+     */
+    public void write(MailSendHistory history, Long outboxId, String leaseToken) {
+        if (!offer(new PendingHistory(history, outboxId, leaseToken))) {
+            log.warn("메일 전송 이력 버퍼가 가득 차서 이력을 버립니다. outboxId={}", outboxId);
+            return;
+        }
+        // 이미 다른 스레드가 저장 중이면 그 스레드가 이어서 비우므로 기다리지 않는다.
+        if (bufferedCount.get() >= batchSize && flushLock.tryLock()) {
+            try {
+                flushBuffer();
+            } catch (RuntimeException e) {
+                // 메일은 이미 보냈으므로 저장 실패를 보낸 쪽에 알리지 않는다. 남은 이력은 주기적인 flush가 다시 저장한다.
+                log.warn("메일 전송 이력을 저장하지 못했습니다. 다음 flush에서 다시 시도합니다. bufferedCount={}", bufferedCount.get(), e);
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cafekiosk.mail.history.flush-interval-ms:1000}")
+    public void flushPeriodically() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushedCount = flush();
+        if (flushedCount > 0) {
+            log.info("종료 전에 메일 전송 이력 {}건을 저장했습니다.", flushedCount);
+        }
+    }
+
+    /**
+     * 버퍼에 있는 이력을 모두 저장하고, 저장한 건수를 반환한다.
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            return flushBuffer();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int getBufferedCount() {
+        return bufferedCount.get();
+    }
+
+    public boolean isFull() {
+        return bufferedCount.get() >= maxBufferedCount;
+    }
+
+    private int flushBuffer() {
+        int flushedCount = 0;
+        while (true) {
+            List<PendingHistory> histories = drain();
+            if (histories.isEmpty()) {
+                return flushedCount;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> save(histories));
+            } catch (RuntimeException e) {
+                // 저장하지 못한 이력은 버퍼에 되돌려 두고 다음 flush에서 다시 시도한다.
+                requeue(histories);
+                throw e;
+            }
+            flushedCount += histories.size();
+        }
+    }
+
+    private void save(List<PendingHistory> histories) {
+        mailSendHistoryRepository.saveAll(histories.stream()
+                .map(PendingHistory::getHistory)
+                .collect(Collectors.toList()));
+
+        for (PendingHistory history : histories) {
+            if (history.getOutboxId() != null) {
+                mailOutboxRepository.deleteBy(history.getOutboxId(), history.getLeaseToken());
+            }
+        }
+    }
+
+    // outbox 없이 보낸 이력은 버리면 되살릴 수 없으므로 먼저 넣고, outbox 행이 남아 있는 이력은 자리가 남을 때만 넣는다.
+    private void requeue(List<PendingHistory> histories) {
+        int droppedCount = 0;
+        for (PendingHistory history : histories) {
+            if (history.getOutboxId() == null && !offer(history)) {
+                droppedCount++;
+            }
+        }
+        for (PendingHistory history : histories) {
+            if (history.getOutboxId() != null && !offer(history)) {
+                droppedCount++;
+            }
+        }
+        if (droppedCount > 0) {
+            log.warn("메일 전송 이력 버퍼가 가득 차서 저장하지 못한 이력 {}건을 버립니다. outbox에서 보낸 메일은 lease가 지난 뒤 다시 전송됩니다.", droppedCount);
+        }
+    }
+
+    private boolean offer(PendingHistory history) {
+        while (true) {
+            int count = bufferedCount.get();
+            if (count >= maxBufferedCount) {
+                return false;
+            }
+            if (bufferedCount.compareAndSet(count, count + 1)) {
+                buffer.add(history);
+                return true;
+            }
+        }
+    }
+
+    private List<PendingHistory> drain() {
+        List<PendingHistory> histories = new ArrayList<>(batchSize);
+        PendingHistory history;
+        while (histories.size() < batchSize && (history = buffer.poll()) != null) {
+            histories.add(history);
+        }
+        bufferedCount.addAndGet(-histories.size());
+        return histories;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class PendingHistory {
+
+        private final MailSendHistory history;
+        private final Long outboxId;
+        private final String leaseToken;
+
+    }
+
+}
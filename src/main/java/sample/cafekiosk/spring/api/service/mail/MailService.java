@@ -4,19 +4,18 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import sample.cafekiosk.spring.client.mail.MailSendClient;
 import sample.cafekiosk.spring.domain.history.mail.MailSendHistory;
-import sample.cafekiosk.spring.domain.history.mail.MailSendHistoryRepository;
 
 @Service
 @RequiredArgsConstructor
 public class MailService {
 
     private final MailSendClient mailSendClient;
-    private final MailSendHistoryRepository mailSendHistoryRepository;
+    private final MailSendHistoryWriter mailSendHistoryWriter;
 
     public boolean sendMail(String fromEmail, String toEmail, String subject, String content) {
         boolean result = mailSendClient.sendEmail(fromEmail, toEmail, subject, content);
         if (result) {
-            mailSendHistoryRepository.save(MailSendHistory.builder()
+            mailSendHistoryWriter.write(MailSendHistory.builder()
                             .fromEmail(fromEmail)
                             .toEmail(toEmail)
                             .subject(subject)
@@ -0,0 +1,131 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.api.controller.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주문 등록을 요청 스레드가 아닌 주문 전용 pool에서 실행한다. DB가 느려져도 요청 스레드는 바로 돌아가므로 상품 조회 같은 다른 요청이 밀리지 않는다.
+ * 대기열 크기가 정해져 있어서, 대기열이 가득 차면 주문을 쌓아 두지 않고 바로 거절한다(OrderQueueFullException).
+ * 응답 시간(timeoutMillis)이 지나 취소된 주문은 대기열에서 꺼내도 실행하지 않는다. 이미 실행을 시작한 주문은 취소되지 않는다.
+ */
+@Component
+public class OrderCreateExecutor {
+
+    private final OrderService orderService;
+    private final int retryAfterSeconds;
+    private final long timeoutMillis;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Timer queueWait;
+    private final Counter rejectedCounter;
+
+    public OrderCreateExecutor(OrderService orderService,
+                               MeterRegistry meterRegistry,
+                               @Value("${cafekiosk.order.async.pool-size:8}") int poolSize,
+                               @Value("${cafekiosk.order.async.queue-capacity:100}") int queueCapacity,
+                               @Value("${cafekiosk.order.async.retry-after-seconds:1}") int retryAfterSeconds,
+                               @Value("${cafekiosk.order.async.timeout-ms:10000}") long timeoutMillis) {
+        this.orderService = orderService;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "order-create-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("order.create.queue.size", executor, e -> e.getQueue().size())
+                .description("주문 등록 대기열에 있는 주문 수")
+                .register(meterRegistry);
+        Gauge.builder("order.create.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        // 대기열에 들어간 시점부터 pool 스레드가 꺼내 실행하기까지 걸린 시간
+        this.queueWait = Timer.builder("order.create.queue.wait")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter("order.create.rejected");
+    }
+
+    /**
+     * 주문 등록을 대기열에 넣고 바로 돌아온다. 대기열이 가득 차 있으면 OrderQueueFullException이 발생한다.
+     * 반환한 future의 cancel()은 주문이 아직 대기열에 있을 때만 true이고, 그 주문은 등록되지 않는다.
+     */
+    public CompletableFuture<OrderResponse> submit(OrderCreateServiceRequest request, LocalDateTime registeredDateTime) {
+        QueuedOrder future = new QueuedOrder();
+        long submittedNanos = System.nanoTime();
+
+        try {
+            executor.execute(() -> {
+                queueWait.record(System.nanoTime() - submittedNanos, TimeUnit.NANOSECONDS);
+                if (!future.start()) {
+                    return; // 기다리다 응답 시간이 지나 취소된 주문은 등록하지 않는다.
+                }
+                try {
+                    future.complete(orderService.createOrder(request, registeredDateTime));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new OrderQueueFullException(retryAfterSeconds);
+        }
+        return future;
+    }
+
+    /**
+     * 주문 등록 요청의 응답 시간. 대기열을 비우는 시간과 주문 트랜잭션의 최악 시간을 더한 것보다 크게 잡는다.
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 실행을 시작하는 것과 취소하는 것 중 먼저 한쪽만 성공한다.
+     */
+    private static class QueuedOrder extends CompletableFuture<OrderResponse> {
+
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        private boolean start() {
+            return started.compareAndSet(false, true);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            // 이미 실행 중인 주문은 커밋될 수 있으므로 취소된 것으로 알리지 않는다.
+            return started.compareAndSet(false, true) && super.cancel(mayInterruptIfRunning);
+        }
+
+    }
+
+}
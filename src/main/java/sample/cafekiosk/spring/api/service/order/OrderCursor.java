@@ -0,0 +1,46 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 목록에서 마지막으로 읽은 주문의 (주문시간, id). 클라이언트에는 내용을 알 수 없는 문자열로 내려준다.
+ */
+@Getter
+public class OrderCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime registeredDateTime;
+
+    private final Long id;
+
+    private OrderCursor(LocalDateTime registeredDateTime, Long id) {
+        this.registeredDateTime = registeredDateTime;
+        this.id = id;
+    }
+
+    public static OrderCursor of(LocalDateTime registeredDateTime, Long id) {
+        return new OrderCursor(registeredDateTime, id);
+    }
+
+    public static OrderCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] tokens = decoded.split(DELIMITER);
+            return new OrderCursor(LocalDateTime.parse(tokens[0]), Long.parseLong(tokens[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = registeredDateTime + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,163 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.domain.order.OrderExportRow;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * 기간 내 주문을 CSV(주문상품마다 한 줄) 또는 NDJSON(주문마다 한 줄)으로 내보낸다.
+ * DB 커서에서 읽은 행을 바로 출력 스트림에 쓰므로, 주문이 몇 건이든 메모리에는 출력 버퍼와 현재 행만 남는다.
+ * 대신 내보내는 동안(클라이언트가 다 받을 때까지) 트랜잭션과 DB 커넥션을 하나 쥐고 있다.
+ * H2는 URL에 LAZY_QUERY_EXECUTION=TRUE가 있어야 fetchSize만큼 나눠 읽고, 없으면 결과 전체를 메모리에 올린다.
+ * 기본 설정의 메모리 H2(jdbc:h2:mem:...)에는 이 옵션이 없으므로, H2로 큰 기간을 내보내려면 URL에 추가해야 한다.
+ */
+@Service
+public class OrderExportService {
+
+    private static final String CSV_HEADER = "order_id,registered_date_time,order_status,total_price,product_number,product_name,price";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final OrderRepository orderRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final int fetchSize;
+
+    public OrderExportService(OrderRepository orderRepository,
+                              ObjectMapper objectMapper,
+                              @Value("${cafekiosk.order.export.fetch-size:1000}") int fetchSize) {
+        this.orderRepository = orderRepository;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    public void checkPeriod(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        if (!startDateTime.isBefore(endDateTime)) {
+            throw new IllegalArgumentException("시작 시간은 종료 시간보다 이전이어야 합니다.");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void export(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderExportFormat format, OutputStream outputStream) throws IOException {
+        checkPeriod(startDateTime, endDateTime);
+
+        if (format == OrderExportFormat.CSV) {
+            exportCsv(startDateTime, endDateTime, outputStream);
+            return;
+        }
+        exportNdjson(startDateTime, endDateTime, outputStream);
+    }
+
+    private void exportCsv(LocalDateTime startDateTime, LocalDateTime endDateTime, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        try {
+            orderRepository.streamOrderExportRowsBy(startDateTime, endDateTime, fetchSize, row -> writeCsvRow(writer, row));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvRow(Writer writer, OrderExportRow row) {
+        try {
+            writer.write(Long.toString(row.getOrderId()));
+            writer.write(',');
+            writer.write(row.getRegisteredDateTime().toString());
+            writer.write(',');
+            writer.write(row.getOrderStatus().name());
+            writer.write(',');
+            writer.write(Long.toString(row.getTotalPrice()));
+            writer.write(',');
+            writer.write(escapeCsv(row.getProductNumber()));
+            writer.write(',');
+            writer.write(escapeCsv(row.getProductName()));
+            writer.write(',');
+            writer.write(Integer.toString(row.getPrice()));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * 행이 주문 id 순서로 오므로, 주문 id가 바뀔 때마다 이전 주문의 JSON 객체를 닫고 줄을 바꾼다.
+     */
+    private void exportNdjson(LocalDateTime startDateTime, LocalDateTime endDateTime, OutputStream outputStream) throws IOException {
+        OutputStream bufferedOutputStream = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(bufferedOutputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null); // 주문 사이 구분은 줄바꿈만 쓴다.
+        long[] currentOrderId = {-1};
+
+        try {
+            orderRepository.streamOrderExportRowsBy(startDateTime, endDateTime, fetchSize, row -> {
+                try {
+                    if (row.getOrderId() != currentOrderId[0]) {
+                        if (currentOrderId[0] != -1) {
+                            endOrder(generator);
+                        }
+                        startOrder(generator, row);
+                        currentOrderId[0] = row.getOrderId();
+                    }
+                    writeProduct(generator, row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        if (currentOrderId[0] != -1) {
+            endOrder(generator);
+        }
+        generator.flush();
+        bufferedOutputStream.flush();
+    }
+
+    private static void startOrder(JsonGenerator generator, OrderExportRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("orderId", row.getOrderId());
+        generator.writeStringField("registeredDateTime", row.getRegisteredDateTime().toString());
+        generator.writeStringField("orderStatus", row.getOrderStatus().name());
+        generator.writeNumberField("totalPrice", row.getTotalPrice());
+        generator.writeArrayFieldStart("products");
+    }
+
+    private static void writeProduct(JsonGenerator generator, OrderExportRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("productNumber", row.getProductNumber());
+        generator.writeStringField("name", row.getProductName());
+        generator.writeNumberField("price", row.getPrice());
+        generator.writeEndObject();
+    }
+
+    private static void endOrder(JsonGenerator generator) throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+}
@@ -0,0 +1,18 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import lombok.Getter;
+
+/**
+ * 주문 등록 대기열이 가득 차서 주문을 받지 못했다. retryAfterSeconds 뒤에 다시 시도하면 된다.
+ */
+@Getter
+public class OrderQueueFullException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public OrderQueueFullException(int retryAfterSeconds) {
+        super("주문이 많아 잠시 후 다시 시도해 주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+}
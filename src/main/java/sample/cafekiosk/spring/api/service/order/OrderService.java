@@ -4,20 +4,30 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sample.cafekiosk.spring.api.controller.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.controller.order.response.OrderBatchResponse;
+import sample.cafekiosk.spring.api.controller.order.response.OrderBatchResult;
+import sample.cafekiosk.spring.api.controller.order.response.OrderPageResponse;
 import sample.cafekiosk.spring.api.controller.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.controller.order.response.OrderSummaryResponse;
+import sample.cafekiosk.spring.api.service.order.request.OrderBatchCreateServiceRequest;
 import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.product.ProductIdIndex;
+import sample.cafekiosk.spring.api.service.stock.StockDeductionService;
+import sample.cafekiosk.spring.api.service.store.StoreBusinessHours;
 import sample.cafekiosk.spring.domain.order.Order;
 import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.order.OrderSummary;
 import sample.cafekiosk.spring.domain.product.Product;
-import sample.cafekiosk.spring.domain.product.ProductRepository;
 import sample.cafekiosk.spring.domain.product.ProductType;
-import sample.cafekiosk.spring.domain.stock.Stock;
-import sample.cafekiosk.spring.domain.stock.StockRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,11 +35,16 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class OrderService {
 
-    private final ProductRepository productRepository;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ProductIdIndex productIdIndex;
     private final OrderRepository orderRepository;
-    private final StockRepository stockRepository;
+    private final StockDeductionService stockDeductionService;
+    private final StoreBusinessHours storeBusinessHours;
 
     public OrderResponse createOrder(OrderCreateServiceRequest request, LocalDateTime registeredDateTime) {
+        checkBusinessHours(registeredDateTime);
+
         List<String> productNumbers = request.getProductNumbers();
         List<Product> products = findProductsBy(productNumbers);
 
@@ -40,51 +55,154 @@ public class OrderService {
         return OrderResponse.of(savedOrder);
     }
 
-    private void deductStockQuantities(List<Product> products) {
-        List<String> stockProductNumbers = extractStockProductNumbers(products);
+    /**
+     * 여러 주문을 한 번에 등록한다. 상품과 재고는 전체 주문에 대해 한 번씩만 조회하고, 재고 차감과 주문 저장도 모아서 처리한다.
+     * 존재하지 않는 상품이 있거나 재고가 부족한 주문만 실패로 처리하고 나머지 주문은 등록한다.
+     */
+    public OrderBatchResponse createOrders(OrderBatchCreateServiceRequest request, LocalDateTime registeredDateTime) {
+        checkBusinessHours(registeredDateTime);
+
+        List<OrderCreateServiceRequest> orderRequests = request.getOrders();
+        Map<String, Product> productMap = findProductMapBy(orderRequests);
+
+        OrderBatchResult[] results = new OrderBatchResult[orderRequests.size()];
+        List<Integer> candidateIndexes = new ArrayList<>();
+        List<List<Product>> candidateProducts = new ArrayList<>();
+        List<Map<String, Integer>> candidateStockQuantities = new ArrayList<>();
+
+        for (int i = 0; i < orderRequests.size(); i++) {
+            List<Product> products = mapProducts(orderRequests.get(i).getProductNumbers(), productMap);
+            if (products == null) {
+                results[i] = OrderBatchResult.failure(i, "존재하지 않는 상품이 있습니다.");
+                continue;
+            }
 
-        Map<String, Stock> stockMap = createStockMapBy(stockProductNumbers);
-        Map<String, Long> productCountingMap = createCountingMapBy(stockProductNumbers);
+            candidateIndexes.add(i);
+            candidateProducts.add(products);
+            candidateStockQuantities.add(createStockCountingMapBy(products));
+        }
 
-        for (String stockProductNumber : new HashSet<>(stockProductNumbers)) {
-            Stock stock = stockMap.get(stockProductNumber);
-            int quantity = productCountingMap.get(stockProductNumber).intValue();
+        List<Boolean> deducted = stockDeductionService.deductStockQuantitiesEach(candidateStockQuantities);
 
-            if (stock.isQuantityLessThan(quantity)) {
-                throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+        List<Integer> orderIndexes = new ArrayList<>();
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < candidateIndexes.size(); i++) {
+            int index = candidateIndexes.get(i);
+            if (!deducted.get(i)) {
+                results[index] = OrderBatchResult.failure(index, "재고가 부족한 상품이 있습니다.");
+                continue;
             }
 
-            stock.deductQuantity(quantity);
+            orderIndexes.add(index);
+            orders.add(Order.create(candidateProducts.get(i), registeredDateTime));
+        }
+
+        List<Order> savedOrders = orderRepository.saveAll(orders);
+        for (int i = 0; i < savedOrders.size(); i++) {
+            int index = orderIndexes.get(i);
+            results[index] = OrderBatchResult.success(index, OrderResponse.of(savedOrders.get(i)));
+        }
+
+        return OrderBatchResponse.of(List.of(results));
+    }
 
+    @Transactional(readOnly = true)
+    public OrderResponse getOrder(Long orderId) {
+        Order order = orderRepository.findWithProductsById(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다."));
+        return OrderResponse.of(order);
+    }
+
+    /**
+     * 최근 주문부터 size개씩 조회한다. cursor는 이전 페이지 응답의 nextCursor이며, 없으면 첫 페이지를 조회한다.
+     * 다음 페이지가 있는지 알기 위해 size + 1개를 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public OrderPageResponse getOrders(OrderStatus orderStatus, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
         }
+
+        OrderCursor lastOrder = cursor == null ? null : OrderCursor.decode(cursor);
+        List<OrderSummary> orderSummaries = orderRepository.findOrderSummariesBy(
+                orderStatus,
+                lastOrder == null ? null : lastOrder.getRegisteredDateTime(),
+                lastOrder == null ? null : lastOrder.getId(),
+                size + 1
+        );
+
+        boolean hasNext = orderSummaries.size() > size;
+        List<OrderSummary> page = hasNext ? orderSummaries.subList(0, size) : orderSummaries;
+        OrderSummary last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return OrderPageResponse.builder()
+                .orders(page.stream()
+                        .map(OrderSummaryResponse::of)
+                        .collect(Collectors.toList()))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? OrderCursor.of(last.getRegisteredDateTime(), last.getId()).encode() : null)
+                .build();
     }
 
-    private List<Product> findProductsBy(List<String> productNumbers) {
-        List<Product> products = productRepository.findAllByProductNumberIn(productNumbers);
-        Map<String, Product> productMap = products.stream()
-                .collect(Collectors.toMap(Product::getProductNumber, p -> p));
+    private void checkBusinessHours(LocalDateTime registeredDateTime) {
+        if (!storeBusinessHours.isOpen(registeredDateTime)) {
+            throw new IllegalArgumentException("주문 시간이 아닙니다. 관리자에게 문의하세요.");
+        }
+    }
 
-        return productNumbers.stream()
-                .map(productMap::get)
-                .collect(Collectors.toList());
+    private void deductStockQuantities(List<Product> products) {
+        stockDeductionService.deductStockQuantities(createStockCountingMapBy(products));
+    }
+
+    private List<Product> findProductsBy(List<String> productNumbers) {
+        Map<String, Product> productMap = productIdIndex.findProductMapBy(productNumbers);
+        List<Product> products = mapProducts(productNumbers, productMap);
+        if (products == null) {
+            throw new IllegalArgumentException("존재하지 않는 상품이 있습니다.");
+        }
+        return products;
     }
 
-    private static List<String> extractStockProductNumbers(List<Product> products) {
-        return products.stream()
-                .filter(product -> ProductType.containsStockType(product.getType()))
-                .map(Product::getProductNumber)
-                .collect(Collectors.toList());
+    private Map<String, Product> findProductMapBy(List<OrderCreateServiceRequest> orderRequests) {
+        Set<String> productNumbers = new HashSet<>();
+        for (OrderCreateServiceRequest orderRequest : orderRequests) {
+            productNumbers.addAll(orderRequest.getProductNumbers());
+        }
+
+        return productIdIndex.findProductMapBy(productNumbers);
     }
 
-    private Map<String, Stock> createStockMapBy(List<String> stockProductNumbers) {
-        List<Stock> stocks = stockRepository.findAllByProductNumberIn(stockProductNumbers);
-        return stocks.stream()
-                .collect(Collectors.toMap(Stock::getProductNumber, s -> s));
+    // 주문한 순서대로 상품을 꺼낸다. 없는 상품이 하나라도 있으면 null을 반환한다.
+    private static List<Product> mapProducts(List<String> productNumbers, Map<String, Product> productMap) {
+        List<Product> products = new ArrayList<>(productNumbers.size());
+        for (String productNumber : productNumbers) {
+            Product product = productMap.get(productNumber);
+            if (product == null) {
+                return null;
+            }
+            products.add(product);
+        }
+        return products;
     }
 
-    private static Map<String, Long> createCountingMapBy(List<String> stockProductNumbers) {
-        return stockProductNumbers.stream()
-                .collect(Collectors.groupingBy(p -> p, Collectors.counting()));
+    /**
+     * 재고를 차감해야 하는 상품의 상품번호별 주문 수량. 주문 상품을 한 번만 훑으면서 상품마다 int[1] 카운터를 올리므로,
+     * 주문 상품 수와 상관없이 세는 동안에는 박싱하지 않는다. 재고 차감 API가 Map<String, Integer>를 받으므로 다 센 뒤 상품마다 한 번만 박싱한다.
+     * src/jmh의 OrderStockCountingBenchmark와 OrderAllocationTest에서도 호출한다.
+     */
+    static Map<String, Integer> createStockCountingMapBy(List<Product> products) {
+        Map<String, int[]> counters = new HashMap<>();
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            if (ProductType.containsStockType(product.getType())) {
+                counters.computeIfAbsent(product.getProductNumber(), productNumber -> new int[1])[0]++;
+            }
+        }
+
+        Map<String, Integer> countingMap = new HashMap<>((int) (counters.size() / 0.75f) + 1);
+        counters.forEach((productNumber, counter) -> countingMap.put(productNumber, counter[0]));
+        return countingMap;
     }
 
 }
@@ -1,46 +1,92 @@
 package sample.cafekiosk.spring.api.service.order;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import sample.cafekiosk.spring.api.service.mail.MailService;
-import sample.cafekiosk.spring.domain.order.Order;
+import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.api.service.mail.MailOutboxService;
+import sample.cafekiosk.spring.api.service.order.response.OrderStatisticsResponse;
+import sample.cafekiosk.spring.api.service.order.response.ProductTypeSalesResponse;
+import sample.cafekiosk.spring.api.service.sales.DailySalesService;
 import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderSalesSummary;
 import sample.cafekiosk.spring.domain.order.OrderStatus;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class OrderStatisticsService {
 
     private final OrderRepository orderRepository;
 
-    private final MailService mailService;
+    private final DailySalesService dailySalesService;
 
-    public boolean sendOrderStatisticsMail(LocalDate orderDate, String email) {
-        List<Order> orders = orderRepository.findOrdersBy(
-                orderDate.atStartOfDay(), // ex) 18일이라면 18일 0시
-                orderDate.plusDays(1).atStartOfDay(), // ex) 18일이라면 +1 해서 19일 0시,
-                OrderStatus.PAYMENT_COMPLETED
-        );
+    private final MailOutboxService mailOutboxService;
 
-        int totalAmount = orders.stream()
-                .mapToInt(Order::getTotalPrice)
-                .sum();
+    private final OrderStatisticsSource statisticsSource;
 
-        boolean result = mailService.sendMail("no-reply@cafekiosk.com",
+    public OrderStatisticsService(OrderRepository orderRepository,
+                                  DailySalesService dailySalesService,
+                                  MailOutboxService mailOutboxService,
+                                  @Value("${cafekiosk.statistics.source:ROLLUP}") OrderStatisticsSource statisticsSource) {
+        this.orderRepository = orderRepository;
+        this.dailySalesService = dailySalesService;
+        this.mailOutboxService = mailOutboxService;
+        this.statisticsSource = statisticsSource;
+    }
+
+    /**
+     * 매출 통계 메일을 outbox에 넣고 바로 돌아온다. 전송과 재시도는 MailOutboxRelay가 따로 처리한다.
+     */
+    public boolean sendOrderStatisticsMail(LocalDate orderDate, String email) {
+        long totalAmount = getTotalAmount(orderDate);
+
+        mailOutboxService.enqueueMail("no-reply@cafekiosk.com",
                 email,
                 String.format("[매출통계] %s", orderDate),
                 String.format("총 매출 합계는 %s원입니다.", totalAmount)
         );
 
-        if (!result) {
-            throw new IllegalArgumentException("매출 통계 메일 전송에 실패했습니다.");
-        }
-
         return true;
+    }
+
+    /**
+     * 결제완료 주문의 매출 합계, 주문 수, 상품 타입별 판매 현황을 주문 엔티티를 읽지 않고 DB 집계로 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public OrderStatisticsResponse getOrderStatistics(LocalDate orderDate) {
+        OrderSalesSummary summary = summarizeOrders(orderDate);
+        List<ProductTypeSalesResponse> productTypes = orderRepository.summarizeProductTypesBy(
+                        orderDate.atStartOfDay(),
+                        orderDate.plusDays(1).atStartOfDay(),
+                        OrderStatus.PAYMENT_COMPLETED
+                ).stream()
+                .map(ProductTypeSalesResponse::of)
+                .collect(Collectors.toList());
+
+        return OrderStatisticsResponse.builder()
+                .orderDate(orderDate)
+                .totalAmount(summary.getTotalAmount())
+                .orderCount(summary.getOrderCount())
+                .productTypes(productTypes)
+                .build();
+    }
 
+    private long getTotalAmount(LocalDate orderDate) {
+        if (statisticsSource == OrderStatisticsSource.AGGREGATE) {
+            return summarizeOrders(orderDate).getTotalAmount();
+        }
+        // 결제완료 주문을 모두 읽어 합산하는 대신, 주문 상태가 바뀔 때마다 쌓아 둔 일자별 매출 한 행만 읽는다.
+        return dailySalesService.getTotalAmount(orderDate);
+    }
+
+    private OrderSalesSummary summarizeOrders(LocalDate orderDate) {
+        return orderRepository.summarizeOrdersBy(
+                orderDate.atStartOfDay(), // ex) 18일이라면 18일 0시
+                orderDate.plusDays(1).atStartOfDay(), // ex) 18일이라면 +1 해서 19일 0시,
+                OrderStatus.PAYMENT_COMPLETED
+        );
     }
 
 }
@@ -0,0 +1,15 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OrderStatisticsSource {
+
+    ROLLUP("일자별 매출 집계 테이블(daily_sales)에서 한 행을 읽는다."),
+    AGGREGATE("orders 테이블에서 sum/count를 DB로 집계한다.");
+
+    private final String text;
+
+}
@@ -0,0 +1,12 @@
+package sample.cafekiosk.spring.api.service.order;
+
+/**
+ * 주문 등록이 응답 시간 안에 끝나지 않았다. 이미 실행 중이었으므로 주문이 등록됐을 수 있다.
+ */
+public class OrderTimeoutException extends RuntimeException {
+
+    public OrderTimeoutException() {
+        super("주문 처리가 지연되고 있습니다. 주문 내역을 확인한 뒤 다시 주문해 주세요.");
+    }
+
+}
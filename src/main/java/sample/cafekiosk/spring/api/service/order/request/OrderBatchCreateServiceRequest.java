@@ -0,0 +1,20 @@
+package sample.cafekiosk.spring.api.service.order.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class OrderBatchCreateServiceRequest {
+
+    private List<OrderCreateServiceRequest> orders;
+
+    @Builder
+    public OrderBatchCreateServiceRequest(List<OrderCreateServiceRequest> orders) {
+        this.orders = orders;
+    }
+
+}
@@ -0,0 +1,28 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+public class OrderStatisticsResponse {
+
+    private LocalDate orderDate;
+
+    private long totalAmount;
+
+    private long orderCount;
+
+    private List<ProductTypeSalesResponse> productTypes;
+
+    @Builder
+    private OrderStatisticsResponse(LocalDate orderDate, long totalAmount, long orderCount, List<ProductTypeSalesResponse> productTypes) {
+        this.orderDate = orderDate;
+        this.totalAmount = totalAmount;
+        this.orderCount = orderCount;
+        this.productTypes = productTypes;
+    }
+
+}
@@ -0,0 +1,32 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.order.ProductTypeSalesSummary;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+@Getter
+public class ProductTypeSalesResponse {
+
+    private ProductType type;
+
+    private long totalAmount;
+
+    private long productCount;
+
+    @Builder
+    private ProductTypeSalesResponse(ProductType type, long totalAmount, long productCount) {
+        this.type = type;
+        this.totalAmount = totalAmount;
+        this.productCount = productCount;
+    }
+
+    public static ProductTypeSalesResponse of(ProductTypeSalesSummary summary) {
+        return ProductTypeSalesResponse.builder()
+                .type(summary.getType())
+                .totalAmount(summary.getTotalAmount())
+                .productCount(summary.getProductCount())
+                .build();
+    }
+
+}
@@ -0,0 +1,90 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductChangedEvent;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품번호 → 상품 id 매핑을 메모리에 들고 있다가, 주문할 상품을 상품번호 대신 기본키 묶음으로 조회한다.
+ * 매핑은 처음 조회될 때 채우고 상품 변경이 커밋되면 지운다.
+ * 일괄 삭제처럼 이벤트 없이 바뀐 경우에도 기본키로 찾지 못한 상품번호는 상품번호로 다시 조회해서 매핑을 고친다.
+ * 2차 캐시에 있는 상품은 기본키로 하나씩 꺼내서 쿼리 없이 읽고, 나머지만 한 번에 조회한다.
+ */
+@Component
+public class ProductIdIndex {
+
+    private final ProductRepository productRepository;
+
+    private final Cache secondLevelCache;
+
+    private final Map<String, Long> productIds = new ConcurrentHashMap<>();
+
+    public ProductIdIndex(ProductRepository productRepository, EntityManagerFactory entityManagerFactory) {
+        this.productRepository = productRepository;
+        this.secondLevelCache = entityManagerFactory.getCache();
+    }
+
+    /**
+     * 상품번호별 상품을 조회한다. 존재하지 않는 상품번호는 결과에 포함되지 않는다.
+     */
+    public Map<String, Product> findProductMapBy(Collection<String> productNumbers) {
+        Set<String> distinctProductNumbers = new HashSet<>(productNumbers);
+
+        Map<String, Product> productMap = new HashMap<>(distinctProductNumbers.size() * 2);
+        List<Long> uncachedIds = new ArrayList<>();
+        List<String> missingProductNumbers = new ArrayList<>();
+        for (String productNumber : distinctProductNumbers) {
+            Long id = productIds.get(productNumber);
+            if (id == null) {
+                missingProductNumbers.add(productNumber);
+            } else if (secondLevelCache.contains(Product.class, id)) {
+                productRepository.findById(id)
+                        .ifPresent(product -> productMap.put(product.getProductNumber(), product));
+            } else {
+                uncachedIds.add(id);
+            }
+        }
+
+        if (!uncachedIds.isEmpty()) {
+            for (Product product : productRepository.findAllById(uncachedIds)) {
+                productMap.put(product.getProductNumber(), product);
+            }
+        }
+
+        for (String productNumber : distinctProductNumbers) {
+            if (!productMap.containsKey(productNumber) && productIds.remove(productNumber) != null) {
+                missingProductNumbers.add(productNumber);
+            }
+        }
+
+        if (!missingProductNumbers.isEmpty()) {
+            for (Product product : productRepository.findAllByProductNumberIn(missingProductNumbers)) {
+                productMap.put(product.getProductNumber(), product);
+                productIds.put(product.getProductNumber(), product.getId());
+            }
+        }
+
+        return productMap;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        productIds.remove(event.getProductNumber());
+    }
+
+    public int size() {
+        return productIds.size();
+    }
+
+    public void clear() {
+        productIds.clear();
+    }
+
+}
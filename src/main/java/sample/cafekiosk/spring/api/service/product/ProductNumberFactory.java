@@ -1,25 +1,137 @@
 package sample.cafekiosk.spring.api.service.product;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.domain.product.ProductNumberSequence;
+import sample.cafekiosk.spring.domain.product.ProductNumberSequenceRepository;
 import sample.cafekiosk.spring.domain.product.ProductRepository;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 상품번호를 발급한다.
+ * DB(product_number_sequence)에서 blockSize개씩 번호 구간을 잠가서 가져오고, 구간 안에서는 메모리 카운터로 나눠 주므로
+ * 여러 노드가 동시에 상품을 등록해도 번호가 겹치지 않고, 대부분의 발급은 쿼리 없이 끝난다.
+ * 노드가 재시작되면 쓰지 못한 구간의 번호는 건너뛴다.
+ */
 @Component
-@RequiredArgsConstructor
 public class ProductNumberFactory {
 
+    private static final String SEQUENCE_NAME = "product";
+
+    private static final int SEED_PAGE_SIZE = 100;
+
+    // long으로 읽을 수 있는 자릿수
+    private static final int MAX_NUMBER_LENGTH = 18;
+
     private final ProductRepository productRepository;
+    private final ProductNumberSequenceRepository productNumberSequenceRepository;
+    private final TransactionTemplate requiresNewTransaction;
+    private final int blockSize;
+
+    private final AtomicReference<Block> currentBlock = new AtomicReference<>(Block.EMPTY);
+
+    public ProductNumberFactory(ProductRepository productRepository,
+                                ProductNumberSequenceRepository productNumberSequenceRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${cafekiosk.product.number-block-size:100}") int blockSize) {
+        this.productRepository = productRepository;
+        this.productNumberSequenceRepository = productNumberSequenceRepository;
+        // 구간을 잠그는 시간이 짧도록 바로 커밋하고, 등록이 롤백돼도 다른 노드와 번호가 겹치지 않게 한다.
+        // 구간을 가져오는 동안 다른 스레드는 refill()에서 기다리므로, 커넥션을 쥔 트랜잭션 안에서 호출하면
+        // 기다리는 스레드 수만큼 커넥션이 묶여 풀이 고갈될 수 있다. 트랜잭션 밖에서 번호를 먼저 발급받아야 한다.
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
 
     public String createNextProductNumber() {
-        String latestProductNumber = productRepository.findLatestProductNumber();
-        if (latestProductNumber == null) {
-            return "001";
+        return String.format("%03d", nextValue());
+    }
+
+    private long nextValue() {
+        while (true) {
+            Block block = currentBlock.get();
+            long value = block.next.getAndIncrement();
+            if (value < block.end) {
+                return value;
+            }
+            refill(block);
+        }
+    }
+
+    private synchronized void refill(Block exhaustedBlock) {
+        if (currentBlock.get() != exhaustedBlock) {
+            return; // 다른 스레드가 이미 새 구간을 가져왔다.
+        }
+
+        long start = allocateBlock();
+        currentBlock.set(new Block(start, start + blockSize));
+    }
+
+    private long allocateBlock() {
+        try {
+            return requiresNewTransaction.execute(status -> lockAndAllocate());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 동시에 발급 현황 행을 처음 만든 경우, 그 행을 잠가서 다시 가져온다.
+            return requiresNewTransaction.execute(status -> lockAndAllocate());
+        }
+    }
+
+    private long lockAndAllocate() {
+        ProductNumberSequence sequence = productNumberSequenceRepository.findForUpdateBy(SEQUENCE_NAME)
+                .orElseGet(() -> productNumberSequenceRepository.saveAndFlush(ProductNumberSequence.create(SEQUENCE_NAME, seed())));
+        return sequence.allocate(blockSize);
+    }
+
+    // 발급 현황이 없으면 지금까지 등록된 가장 큰 상품번호 다음부터 시작한다.
+    // DB에서 숫자로 변환하면 숫자가 아닌 상품번호가 하나만 있어도 실패하므로, 큰 순서로 읽으면서 처음 나오는 숫자 상품번호를 쓴다.
+    private long seed() {
+        for (int page = 0; ; page++) {
+            List<String> productNumbers = productRepository.findProductNumbersInDescendingOrder(PageRequest.of(page, SEED_PAGE_SIZE));
+            for (String productNumber : productNumbers) {
+                if (isNumber(productNumber)) {
+                    return Long.parseLong(productNumber) + 1;
+                }
+            }
+            if (productNumbers.size() < SEED_PAGE_SIZE) {
+                return 1;
+            }
         }
+    }
 
-        int latestProductNumberInt = Integer.parseInt(latestProductNumber);
-        int nextProductNumberInt = latestProductNumberInt + 1;
+    private static boolean isNumber(String productNumber) {
+        if (productNumber.isEmpty() || productNumber.length() > MAX_NUMBER_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < productNumber.length(); i++) {
+            char c = productNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Block {
+
+        private static final Block EMPTY = new Block(0, 0);
+
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
 
-        return String.format("%03d", nextProductNumberInt);
     }
 
 }
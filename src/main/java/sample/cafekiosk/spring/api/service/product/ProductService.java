@@ -2,15 +2,15 @@ package sample.cafekiosk.spring.api.service.product;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import sample.cafekiosk.spring.api.service.product.request.ProductCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.product.response.ProductCatalogSnapshot;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
 import sample.cafekiosk.spring.domain.product.Product;
 import sample.cafekiosk.spring.domain.product.ProductRepository;
-import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -21,7 +21,13 @@ public class ProductService {
 
     private final ProductNumberFactory productNumberFactory;
 
-    @Transactional
+    private final SellingProductCatalog sellingProductCatalog;
+
+    /**
+     * 상품번호는 트랜잭션 밖에서 먼저 발급받고, 저장은 repository의 트랜잭션으로 끝낸다.
+     * 번호 구간을 가져오는 동안 기다리는 스레드들이 커넥션을 하나씩 쥐고 있으면 커넥션 풀이 고갈되기 때문이다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProductResponse createProduct(ProductCreateServiceRequest request) {
         String nextProductNumber = productNumberFactory.createNextProductNumber();
 
@@ -32,10 +38,11 @@ public class ProductService {
     }
 
     public List<ProductResponse> getSellingProducts() {
-        List<Product> products = productRepository.findAllBySellingStatusIn(ProductSellingStatus.forDisplay());
-        return products.stream()
-                .map(ProductResponse::of)
-                .collect(Collectors.toList());
+        return sellingProductCatalog.get().getProducts();
+    }
+
+    public ProductCatalogSnapshot getSellingProductCatalog() {
+        return sellingProductCatalog.get();
     }
 
 }
@@ -0,0 +1,111 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sample.cafekiosk.spring.api.service.product.response.ProductCatalogSnapshot;
+import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.domain.product.ProductChangedEvent;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 판매 상품 목록(GET /api/v1/products/selling)을 응답 본문까지 만들어 둔 그대로 들고 있는 캐시.
+ * 상품 변경이 커밋되면 비우고, 다음 조회에서 한 번만 다시 읽는다.
+ */
+@Component
+public class SellingProductCatalog {
+
+    private final ProductRepository productRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<ProductCatalogSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong version = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public SellingProductCatalog(ProductRepository productRepository, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
+
+        FunctionCounter.builder("product.catalog.cache.requests", hitCount, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("product.catalog.cache.requests", missCount, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("product.catalog.cache.evictions", evictionCount, LongAdder::sum)
+                .register(meterRegistry);
+    }
+
+    public ProductCatalogSnapshot get() {
+        ProductCatalogSnapshot current = snapshot.get();
+        if (current != null) {
+            hitCount.increment();
+            return current;
+        }
+
+        missCount.increment();
+        return load();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        evict();
+    }
+
+    public void evict() {
+        version.incrementAndGet();
+        if (snapshot.getAndSet(null) != null) {
+            evictionCount.increment();
+        }
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private synchronized ProductCatalogSnapshot load() {
+        ProductCatalogSnapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+
+        long loadingVersion = version.get();
+        List<ProductResponse> products = productRepository.findAllBySellingStatusIn(ProductSellingStatus.forDisplay()).stream()
+                .map(ProductResponse::of)
+                .collect(Collectors.toList());
+        ProductCatalogSnapshot loaded = ProductCatalogSnapshot.of(loadingVersion, products, objectMapper);
+
+        // 읽는 사이에 상품 변경이 커밋됐다면 이전 상태일 수 있으므로 캐시하지 않는다.
+        // evict()는 잠그지 않으므로 버전을 확인한 뒤 넣기 직전에 비워질 수 있다. 넣은 뒤에 한 번 더 확인해서 그 경우에도 지운다.
+        if (version.get() == loadingVersion && snapshot.compareAndSet(null, loaded) && version.get() != loadingVersion) {
+            snapshot.compareAndSet(loaded, null);
+        }
+        return loaded;
+    }
+
+}
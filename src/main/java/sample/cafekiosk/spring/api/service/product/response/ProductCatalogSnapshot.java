@@ -0,0 +1,73 @@
+package sample.cafekiosk.spring.api.service.product.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import lombok.Getter;
+import sample.cafekiosk.spring.api.ApiResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 특정 버전의 판매 상품 목록. 만들어진 뒤에는 바뀌지 않으므로 여러 요청이 그대로 공유한다.
+ * 응답 본문(ApiResponse)은 미리 JSON과 gzip으로 인코딩해 두고, 본문 해시로 강한 ETag를 만든다.
+ * 강한 ETag는 바이트 단위로 같은 표현에만 붙여야 하므로, gzip 본문은 접미사를 붙인 별도의 ETag를 쓴다.
+ */
+@Getter
+public class ProductCatalogSnapshot {
+
+    private final long version;
+
+    private final List<ProductResponse> products;
+
+    private final byte[] body;
+
+    private final byte[] gzipBody;
+
+    private final String eTag;
+
+    private final String gzipETag;
+
+    private ProductCatalogSnapshot(long version, List<ProductResponse> products, byte[] body, byte[] gzipBody, String bodyHash) {
+        this.version = version;
+        this.products = products;
+        this.body = body;
+        this.gzipBody = gzipBody;
+        this.eTag = "\"" + bodyHash + "\"";
+        this.gzipETag = "\"" + bodyHash + "-gzip\"";
+    }
+
+    public static ProductCatalogSnapshot of(long version, List<ProductResponse> products, ObjectMapper objectMapper) {
+        List<ProductResponse> copiedProducts = List.copyOf(products);
+        byte[] body = serialize(ApiResponse.ok(copiedProducts), objectMapper);
+        return new ProductCatalogSnapshot(version, copiedProducts, body, gzip(body), hash(body));
+    }
+
+    private static byte[] serialize(ApiResponse<List<ProductResponse>> response, ObjectMapper objectMapper) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("판매 상품 목록을 JSON으로 변환하지 못했습니다.", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(body.length / 4 + 32);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    // 버전 번호는 노드마다 다르므로 본문 해시로 만들어야 어느 노드에서 받은 ETag든 같은 목록이면 일치한다.
+    private static String hash(byte[] body) {
+        return Hashing.sha256().hashBytes(body).toString().substring(0, 32);
+    }
+
+}
@@ -0,0 +1,47 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기동 시 --rebuild-daily-sales 옵션이 있으면 일자별 매출을 주문 이력으로 다시 만든다.
+ * ex) java -jar cafekiosk.jar --rebuild-daily-sales --from=2023-11-01 --to=2023-11-30
+ * 기간을 주지 않으면 1970-01-01부터 오늘까지 전체를 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailySalesRebuildRunner implements ApplicationRunner {
+
+    private static final String REBUILD_OPTION = "rebuild-daily-sales";
+
+    private final DailySalesService dailySalesService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(REBUILD_OPTION)) {
+            return;
+        }
+
+        LocalDate fromDate = getDateOption(args, "from", LocalDate.EPOCH);
+        LocalDate toDate = getDateOption(args, "to", LocalDate.now());
+
+        int rebuiltCount = dailySalesService.rebuild(fromDate, toDate);
+        log.info("{} ~ {} 일자별 매출 {}일치를 다시 만들었습니다.", fromDate, toDate, rebuiltCount);
+    }
+
+    private static LocalDate getDateOption(ApplicationArguments args, String name, LocalDate defaultDate) {
+        List<String> values = args.getOptionValues(name);
+        if (values == null || values.isEmpty()) {
+            return defaultDate;
+        }
+        return LocalDate.parse(values.get(0));
+    }
+
+}
@@ -0,0 +1,36 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.domain.sales.DailySales;
+import sample.cafekiosk.spring.domain.sales.DailySalesRepository;
+
+import java.time.LocalDate;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class DailySalesService {
+
+    private final DailySalesRepository dailySalesRepository;
+
+    public long getTotalAmount(LocalDate salesDate) {
+        return dailySalesRepository.findById(salesDate)
+                .map(DailySales::getTotalAmount)
+                .orElse(0L);
+    }
+
+    /**
+     * 기간의 일자별 매출을 주문 이력으로 다시 계산한다.
+     * 다시 계산하는 동안 들어온 주문의 증감은 덮어써질 수 있으므로 주문이 없는 시간에 실행한다.
+     */
+    @Transactional
+    public int rebuild(LocalDate fromDate, LocalDate toDate) {
+        if (fromDate.isAfter(toDate)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        return dailySalesRepository.rebuild(fromDate, toDate);
+    }
+
+}
@@ -0,0 +1,49 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 주문의 재고 요청을 앞에서부터 차례로 배정한다.
+ * 재고가 부족한 주문은 건너뛰고, 배정된 주문들의 상품번호별 합계를 모아 둔다.
+ */
+class StockAllocator {
+
+    private final Map<String, Integer> availableQuantities;
+
+    private final Map<String, Integer> allocatedQuantities = new HashMap<>();
+
+    StockAllocator(Map<String, Integer> availableQuantities) {
+        this.availableQuantities = new HashMap<>(availableQuantities);
+    }
+
+    List<Boolean> allocate(List<Map<String, Integer>> requestedQuantities) {
+        List<Boolean> allocated = new ArrayList<>(requestedQuantities.size());
+        for (Map<String, Integer> quantities : requestedQuantities) {
+            allocated.add(allocate(quantities));
+        }
+        return allocated;
+    }
+
+    Map<String, Integer> getAllocatedQuantities() {
+        return allocatedQuantities;
+    }
+
+    private boolean allocate(Map<String, Integer> quantities) {
+        for (Map.Entry<String, Integer> entry : quantities.entrySet()) {
+            int available = availableQuantities.getOrDefault(entry.getKey(), 0);
+            if (available < entry.getValue()) {
+                return false;
+            }
+        }
+
+        quantities.forEach((productNumber, quantity) -> {
+            availableQuantities.merge(productNumber, -quantity, Integer::sum);
+            allocatedQuantities.merge(productNumber, quantity, Integer::sum);
+        });
+        return true;
+    }
+
+}
@@ -0,0 +1,17 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum StockDeductionMode {
+
+    ENTITY("엔티티 조회 후 차감"),
+    ATOMIC("조건부 원자적 차감"),
+    OPTIMISTIC("낙관적 재시도 차감"),
+    LEDGER("메모리 원장 예약 후 일괄 반영");
+
+    private final String text;
+
+}
@@ -0,0 +1,126 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class StockDeductionService {
+
+    private final StockRepository stockRepository;
+
+    private final StockReservationLedger stockReservationLedger;
+
+    private final StockDeductionMode deductionMode;
+
+    private final int optimisticMaxRetries;
+
+    public StockDeductionService(StockRepository stockRepository,
+                                 StockReservationLedger stockReservationLedger,
+                                 @Value("${cafekiosk.stock.deduction-mode:ATOMIC}") StockDeductionMode deductionMode,
+                                 @Value("${cafekiosk.stock.optimistic-max-retries:10}") int optimisticMaxRetries) {
+        this.stockRepository = stockRepository;
+        this.stockReservationLedger = stockReservationLedger;
+        this.deductionMode = deductionMode;
+        this.optimisticMaxRetries = optimisticMaxRetries;
+    }
+
+    /**
+     * 상품번호별 수량만큼 재고를 차감한다. 하나라도 부족하면 예외가 발생하고, 트랜잭션이 롤백되면서 차감도 모두 취소된다.
+     */
+    public void deductStockQuantities(Map<String, Integer> deductQuantities) {
+        if (deductQuantities.isEmpty()) {
+            return;
+        }
+
+        switch (deductionMode) {
+            case ENTITY:
+                deductByEntity(deductQuantities);
+                break;
+            case ATOMIC:
+                deductAtomically(deductQuantities);
+                break;
+            case OPTIMISTIC:
+                deductOptimistically(deductQuantities);
+                break;
+            case LEDGER:
+                stockReservationLedger.reserve(deductQuantities);
+                break;
+        }
+    }
+
+    /**
+     * 여러 주문의 재고를 한 번에 차감한다. 요청 순서대로 재고를 배정하고, 재고가 부족한 주문은 건너뛴 뒤 배정된 수량의 합계만 차감한다.
+     * 주문별 차감 여부를 요청 순서대로 반환한다.
+     */
+    public List<Boolean> deductStockQuantitiesEach(List<Map<String, Integer>> quantitiesPerOrder) {
+        if (deductionMode == StockDeductionMode.LEDGER) {
+            return stockReservationLedger.reserveEach(quantitiesPerOrder);
+        }
+
+        Set<String> productNumbers = quantitiesPerOrder.stream()
+                .flatMap(quantities -> quantities.keySet().stream())
+                .collect(Collectors.toSet());
+
+        // 배정과 차감 사이에 다른 주문이 끼어들지 않도록, 배정 전에 관련 재고 row를 모두 잠근다.
+        StockAllocator allocator = new StockAllocator(stockRepository.findQuantitiesForUpdateBy(productNumbers));
+        List<Boolean> deducted = allocator.allocate(quantitiesPerOrder);
+        if (!allocator.getAllocatedQuantities().isEmpty()) {
+            stockRepository.deductQuantities(allocator.getAllocatedQuantities());
+        }
+        return deducted;
+    }
+
+    private void deductByEntity(Map<String, Integer> deductQuantities) {
+        List<Stock> stocks = stockRepository.findAllByProductNumberIn(new ArrayList<>(deductQuantities.keySet()));
+        Map<String, Stock> stockMap = stocks.stream()
+                .collect(Collectors.toMap(Stock::getProductNumber, s -> s));
+
+        for (Map.Entry<String, Integer> entry : deductQuantities.entrySet()) {
+            Stock stock = stockMap.get(entry.getKey());
+            int quantity = entry.getValue();
+
+            if (stock == null || stock.isQuantityLessThan(quantity)) {
+                throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+            }
+
+            stock.deductQuantity(quantity);
+        }
+    }
+
+    private void deductAtomically(Map<String, Integer> deductQuantities) {
+        List<String> notDeducted = stockRepository.deductQuantitiesIfEnough(deductQuantities);
+        if (!notDeducted.isEmpty()) {
+            throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+        }
+    }
+
+    private void deductOptimistically(Map<String, Integer> deductQuantities) {
+        Map<String, Integer> remaining = new HashMap<>(deductQuantities);
+
+        for (int attempt = 0; attempt <= optimisticMaxRetries; attempt++) {
+            Map<String, Integer> currentQuantities = stockRepository.findQuantitiesBy(remaining.keySet());
+            for (Map.Entry<String, Integer> entry : remaining.entrySet()) {
+                Integer currentQuantity = currentQuantities.get(entry.getKey());
+                if (currentQuantity == null || currentQuantity < entry.getValue()) {
+                    throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+                }
+            }
+
+            List<String> conflicted = stockRepository.compareAndDeductQuantities(currentQuantities, remaining);
+            if (conflicted.isEmpty()) {
+                return;
+            }
+            remaining.keySet().retainAll(conflicted);
+        }
+
+        throw new IllegalStateException("재고 차감 재시도 횟수를 초과했습니다.");
+    }
+
+}
@@ -0,0 +1,100 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+import sample.cafekiosk.spring.domain.stock.StockReservation;
+import sample.cafekiosk.spring.domain.stock.StockReservationRepository;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * stock_reservation에 쌓인 예약을 상품번호별로 합산해서 stock 테이블에 한 번에 반영한다.
+ */
+@Slf4j
+@Component
+public class StockReservationFlusher {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final StockRepository stockRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StockDeductionMode deductionMode;
+
+    public StockReservationFlusher(StockRepository stockRepository,
+                                   StockReservationRepository stockReservationRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${cafekiosk.stock.deduction-mode:ATOMIC}") StockDeductionMode deductionMode) {
+        this.stockRepository = stockRepository;
+        this.stockReservationRepository = stockReservationRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.deductionMode = deductionMode;
+    }
+
+    /**
+     * 이전 실행이 반영 전에 종료됐더라도 예약은 주문과 같은 트랜잭션으로 커밋되어 있으므로, 기동 시점에 모두 반영한다.
+     * 다른 모드로 재기동한 경우에도 남은 예약이 있으면 반영해야 하므로 모드와 관계없이 실행한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        int flushedCount = flush();
+        if (flushedCount > 0) {
+            log.info("반영되지 않은 재고 예약 {}건을 재고에 반영했습니다.", flushedCount);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cafekiosk.stock.ledger.flush-interval-ms:1000}")
+    public void flushPeriodically() {
+        if (deductionMode == StockDeductionMode.LEDGER) {
+            flush();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (deductionMode == StockDeductionMode.LEDGER) {
+            flush();
+        }
+    }
+
+    public synchronized int flush() {
+        int flushedCount = 0;
+        while (true) {
+            Integer batchCount = transactionTemplate.execute(status -> flushBatch());
+            if (batchCount == null || batchCount == 0) {
+                return flushedCount;
+            }
+            flushedCount += batchCount;
+        }
+    }
+
+    private int flushBatch() {
+        List<StockReservation> reservations = stockReservationRepository.findAllByOrderByIdAsc(PageRequest.of(0, FLUSH_BATCH_SIZE));
+        if (reservations.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Integer> netDeductions = reservations.stream()
+                .collect(Collectors.groupingBy(StockReservation::getProductNumber, Collectors.summingInt(StockReservation::getQuantity)));
+        stockRepository.deductQuantities(netDeductions);
+
+        // 조회한 예약만 id로 지워야 그 사이 커밋된 예약이 반영되지 않은 채 삭제되는 일이 없다.
+        List<Long> reservationIds = reservations.stream()
+                .map(StockReservation::getId)
+                .collect(Collectors.toList());
+        stockReservationRepository.deleteAllByIdInBatch(reservationIds);
+
+        return reservations.size();
+    }
+
+}
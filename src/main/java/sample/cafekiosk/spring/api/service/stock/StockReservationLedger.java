@@ -0,0 +1,153 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import com.google.common.util.concurrent.Striped;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+import sample.cafekiosk.spring.domain.stock.StockReservation;
+import sample.cafekiosk.spring.domain.stock.StockReservationRepository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+
+/**
+ * 상품번호별 판매 가능 수량을 메모리에 들고 있는 재고 예약 원장.
+ * 예약은 메모리에서 바로 차감하고 stock_reservation에 기록만 남기며, stock 테이블에는 StockReservationFlusher가 모아서 반영한다.
+ * 한 노드가 재고 차감을 전담하는 환경을 전제로 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StockReservationLedger {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final StockRepository stockRepository;
+    private final StockReservationRepository stockReservationRepository;
+
+    private final Map<String, AtomicInteger> availableQuantities = new ConcurrentHashMap<>();
+    private final Striped<Lock> locks = Striped.lock(LOCK_STRIPES);
+
+    public void reserve(Map<String, Integer> quantities) {
+        loadIfAbsent(quantities.keySet());
+
+        // bulkGet은 항상 같은 순서로 lock을 돌려주므로 여러 상품을 한 번에 잠가도 데드락이 나지 않는다.
+        Iterable<Lock> stripes = locks.bulkGet(quantities.keySet());
+        stripes.forEach(Lock::lock);
+        try {
+            for (Map.Entry<String, Integer> entry : quantities.entrySet()) {
+                AtomicInteger available = availableQuantities.get(entry.getKey());
+                if (available == null || available.get() < entry.getValue()) {
+                    throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+                }
+            }
+            quantities.forEach((productNumber, quantity) -> availableQuantities.get(productNumber).addAndGet(-quantity));
+        } finally {
+            stripes.forEach(Lock::unlock);
+        }
+
+        releaseOnRollback(quantities);
+        stockReservationRepository.saveAll(toReservations(quantities));
+    }
+
+    /**
+     * 여러 주문의 예약을 한 번의 잠금 안에서 요청 순서대로 처리한다. 수량이 부족한 주문은 건너뛰고, 주문별 예약 여부를 반환한다.
+     */
+    public List<Boolean> reserveEach(List<Map<String, Integer>> quantitiesPerOrder) {
+        Set<String> productNumbers = quantitiesPerOrder.stream()
+                .flatMap(quantities -> quantities.keySet().stream())
+                .collect(Collectors.toSet());
+        loadIfAbsent(productNumbers);
+
+        List<Boolean> reserved;
+        Map<String, Integer> reservedQuantities;
+
+        Iterable<Lock> stripes = locks.bulkGet(productNumbers);
+        stripes.forEach(Lock::lock);
+        try {
+            Map<String, Integer> currentQuantities = new HashMap<>();
+            for (String productNumber : productNumbers) {
+                AtomicInteger available = availableQuantities.get(productNumber);
+                if (available != null) {
+                    currentQuantities.put(productNumber, available.get());
+                }
+            }
+
+            StockAllocator allocator = new StockAllocator(currentQuantities);
+            reserved = allocator.allocate(quantitiesPerOrder);
+            reservedQuantities = allocator.getAllocatedQuantities();
+            reservedQuantities.forEach((productNumber, quantity) -> availableQuantities.get(productNumber).addAndGet(-quantity));
+        } finally {
+            stripes.forEach(Lock::unlock);
+        }
+
+        if (!reservedQuantities.isEmpty()) {
+            releaseOnRollback(reservedQuantities);
+            stockReservationRepository.saveAll(toReservations(reservedQuantities));
+        }
+        return reserved;
+    }
+
+    public boolean isQuantityLessThan(String productNumber, int quantity) {
+        loadIfAbsent(List.of(productNumber));
+
+        AtomicInteger available = availableQuantities.get(productNumber);
+        return available == null || available.get() < quantity;
+    }
+
+    public void clear() {
+        availableQuantities.clear();
+    }
+
+    private void loadIfAbsent(Collection<String> productNumbers) {
+        List<String> absentProductNumbers = productNumbers.stream()
+                .filter(productNumber -> !availableQuantities.containsKey(productNumber))
+                .collect(Collectors.toList());
+        if (absentProductNumbers.isEmpty()) {
+            return;
+        }
+
+        stockRepository.findAvailableQuantitiesBy(absentProductNumbers)
+                .forEach((productNumber, quantity) -> availableQuantities.putIfAbsent(productNumber, new AtomicInteger(quantity)));
+    }
+
+    private void release(Map<String, Integer> quantities) {
+        Iterable<Lock> stripes = locks.bulkGet(quantities.keySet());
+        stripes.forEach(Lock::lock);
+        try {
+            quantities.forEach((productNumber, quantity) -> availableQuantities.get(productNumber).addAndGet(quantity));
+        } finally {
+            stripes.forEach(Lock::unlock);
+        }
+    }
+
+    private void releaseOnRollback(Map<String, Integer> quantities) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    release(quantities);
+                }
+            }
+        });
+    }
+
+    private static List<StockReservation> toReservations(Map<String, Integer> quantities) {
+        return quantities.entrySet().stream()
+                .map(entry -> StockReservation.create(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+}
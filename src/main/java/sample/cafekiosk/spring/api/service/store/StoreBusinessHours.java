@@ -0,0 +1,48 @@
+package sample.cafekiosk.spring.api.service.store;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.schedule.BusinessHours;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이 매장의 영업시간. 주문을 받을 때마다 확인하므로 미리 만들어 둔 BusinessHours를 잠금 없이 읽고,
+ * 운영 중에 영업시간이 바뀌면 replace로 통째로 바꾼다.
+ */
+@Component
+public class StoreBusinessHours {
+
+    private volatile BusinessHours businessHours;
+
+    public StoreBusinessHours(@Value("${cafekiosk.store.business-hours:MON-SUN 00:00-24:00}") String weeklySchedule,
+                              @Value("${cafekiosk.store.holidays:}") String holidays) {
+        this.businessHours = BusinessHours.parse(weeklySchedule, parseHolidays(holidays));
+    }
+
+    public boolean isOpen(LocalDateTime dateTime) {
+        return businessHours.isOpen(dateTime);
+    }
+
+    public BusinessHours getBusinessHours() {
+        return businessHours;
+    }
+
+    public void replace(BusinessHours businessHours) {
+        this.businessHours = businessHours;
+    }
+
+    private static List<LocalDate> parseHolidays(String holidays) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (String date : holidays.split(",")) {
+            if (!date.isBlank()) {
+                dates.add(LocalDate.parse(date.trim()));
+            }
+        }
+        return dates;
+    }
+
+}
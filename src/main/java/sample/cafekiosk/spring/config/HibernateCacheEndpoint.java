@@ -0,0 +1,102 @@
+package sample.cafekiosk.spring.config;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Hibernate 2차 캐시와 쿼리 캐시의 적중 통계 (GET /actuator/hibernatecache, /actuator/hibernatecache/{region}).
+ * hibernate.generate_statistics는 기본으로 꺼져 있다. 꺼져 있으면 Hibernate가 세지 않아 모든 값이 0이므로,
+ * 캐시가 전혀 적중하지 않는 것처럼 보이지 않게 값 대신 statisticsEnabled: false만 응답한다.
+ */
+@Component
+@Endpoint(id = "hibernatecache")
+public class HibernateCacheEndpoint {
+
+    private final Statistics statistics;
+
+    public HibernateCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public Map<String, Object> cache() {
+        if (!statistics.isStatisticsEnabled()) {
+            return statisticsDisabled();
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("statisticsEnabled", true);
+        result.put("secondLevelCache", hitMissPut(
+                statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(),
+                statistics.getSecondLevelCachePutCount()));
+        result.put("queryCache", hitMissPut(
+                statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount()));
+        result.put("entityLoadCount", statistics.getEntityLoadCount());
+        result.put("queryExecutionCount", statistics.getQueryExecutionCount());
+
+        Map<String, Object> regions = new TreeMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            regions.put(regionName, region(regionName));
+        }
+        result.put("regions", regions);
+        return result;
+    }
+
+    // 없는 리전이면 null을 반환해서 404로 응답한다.
+    @ReadOperation
+    public Map<String, Object> region(@Selector String region) {
+        if (!statistics.isStatisticsEnabled()) {
+            return statisticsDisabled();
+        }
+
+        CacheRegionStatistics regionStatistics = findRegionStatistics(region);
+        if (regionStatistics == null) {
+            return null;
+        }
+
+        Map<String, Object> result = hitMissPut(
+                regionStatistics.getHitCount(),
+                regionStatistics.getMissCount(),
+                regionStatistics.getPutCount());
+        result.put("elementCountInMemory", regionStatistics.getElementCountInMemory());
+        return result;
+    }
+
+    private CacheRegionStatistics findRegionStatistics(String region) {
+        try {
+            return statistics.getCacheRegionStatistics(region);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Map<String, Object> statisticsDisabled() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("statisticsEnabled", false);
+        result.put("message", "hibernate.generate_statistics=true로 실행해야 캐시 통계를 볼 수 있습니다.");
+        return result;
+    }
+
+    private static Map<String, Object> hitMissPut(long hitCount, long missCount, long putCount) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("hitCount", hitCount);
+        result.put("missCount", missCount);
+        result.put("putCount", putCount);
+        result.put("hitRatio", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+        return result;
+    }
+
+}
@@ -10,6 +10,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 
 @Entity
 @Getter
@@ -17,7 +18,8 @@ import javax.persistence.Id;
 public class MailSendHistory extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mail_send_history_seq_generator")
+    @SequenceGenerator(name = "mail_send_history_seq_generator", sequenceName = "mail_send_history_seq", allocationSize = 50)
     private Long id;
 
     private String fromEmail;
@@ -0,0 +1,103 @@
+package sample.cafekiosk.spring.domain.mail;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.BaseEntity;
+import sample.cafekiosk.spring.domain.history.mail.MailSendHistory;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 전송할 메일. 요청한 트랜잭션에서는 여기에 저장만 하고, 실제 전송은 MailDeliveryWorker가 따로 처리한다.
+ * 전송에 성공하면 MailSendHistory를 남기고 삭제된다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_mail_outbox_status_next_attempt_date_time", columnList = "status, nextAttemptDateTime"))
+public class MailOutbox extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mail_outbox_seq_generator")
+    @SequenceGenerator(name = "mail_outbox_seq_generator", sequenceName = "mail_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    private String fromEmail;
+
+    private String toEmail;
+
+    private String subject;
+
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    private MailOutboxStatus status;
+
+    private int attemptCount;
+
+    // PENDING이면 다음 전송 시각, SENDING이면 전송을 맡은 worker의 점유가 끝나는 시각
+    private LocalDateTime nextAttemptDateTime;
+
+    // 점유할 때마다 새로 발급한다. 점유가 끝난 뒤 다른 worker가 다시 점유했으면 값이 바뀌므로, 이 값이 같을 때만 결과를 반영한다.
+    private String leaseToken;
+
+    private String lastError;
+
+    @Builder
+    private MailOutbox(String fromEmail, String toEmail, String subject, String content, LocalDateTime nextAttemptDateTime) {
+        this.fromEmail = fromEmail;
+        this.toEmail = toEmail;
+        this.subject = subject;
+        this.content = content;
+        this.status = MailOutboxStatus.PENDING;
+        this.attemptCount = 0;
+        this.nextAttemptDateTime = nextAttemptDateTime;
+    }
+
+    public static MailOutbox create(String fromEmail, String toEmail, String subject, String content, LocalDateTime now) {
+        return MailOutbox.builder()
+                .fromEmail(fromEmail)
+                .toEmail(toEmail)
+                .subject(subject)
+                .content(content)
+                .nextAttemptDateTime(now)
+                .build();
+    }
+
+    public void retryAt(LocalDateTime nextAttemptDateTime, String error) {
+        this.status = MailOutboxStatus.PENDING;
+        this.attemptCount++;
+        this.nextAttemptDateTime = nextAttemptDateTime;
+        this.leaseToken = null;
+        this.lastError = truncate(error);
+    }
+
+    public void fail(String error) {
+        this.status = MailOutboxStatus.FAILED;
+        this.attemptCount++;
+        this.leaseToken = null;
+        this.lastError = truncate(error);
+    }
+
+    public MailSendHistory toHistory() {
+        return MailSendHistory.builder()
+                .fromEmail(fromEmail)
+                .toEmail(toEmail)
+                .subject(subject)
+                .content(content)
+                .build();
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+}
@@ -0,0 +1,46 @@
+package sample.cafekiosk.spring.domain.mail;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    @Query("select m.id from MailOutbox m where m.status in :statuses and m.nextAttemptDateTime <= :now order by m.id")
+    List<Long> findDueIdsBy(Collection<MailOutboxStatus> statuses, LocalDateTime now, Pageable pageable);
+
+    /**
+     * 아직 아무도 가져가지 않은 메일만 SENDING으로 바꾸고 leaseUntil까지 leaseToken으로 점유한다. 점유했으면 1, 다른 worker가 먼저 가져갔으면 0을 반환한다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update MailOutbox m set m.status = :sending, m.nextAttemptDateTime = :leaseUntil, m.leaseToken = :leaseToken " +
+            "where m.id = :id and m.status in :statuses and m.nextAttemptDateTime <= :now")
+    int claim(Long id, Collection<MailOutboxStatus> statuses, LocalDateTime now, MailOutboxStatus sending, LocalDateTime leaseUntil, String leaseToken);
+
+    /**
+     * leaseToken으로 점유하고 있는 메일을 잠가서 읽는다. 그사이 다른 worker가 다시 점유했거나 지워졌으면 비어 있다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from MailOutbox m where m.id = :id and m.leaseToken = :leaseToken")
+    Optional<MailOutbox> findForUpdateBy(Long id, String leaseToken);
+
+    /**
+     * leaseToken으로 점유하고 있는 메일만 지운다. 다른 worker가 다시 점유했으면 그 worker의 결과를 기다려야 하므로 지우지 않는다.
+     */
+    @Modifying
+    @Query("delete from MailOutbox m where m.id = :id and m.leaseToken = :leaseToken")
+    int deleteBy(Long id, String leaseToken);
+
+    long countByStatus(MailOutboxStatus status);
+
+}
@@ -0,0 +1,16 @@
+package sample.cafekiosk.spring.domain.mail;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MailOutboxStatus {
+
+    PENDING("전송대기"),
+    SENDING("전송중"),
+    FAILED("전송실패");
+
+    private final String text;
+
+}
@@ -9,36 +9,47 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @Entity
 @ToString(exclude = "orderProducts")
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // 매출 통계처럼 상태 + 주문시간 범위로 찾는 조회용 (columnList는 엔티티 필드명 기준)
+        // id까지 포함해서 상태별 주문 목록의 keyset 페이징((주문시간, id) 역순)도 인덱스 순서대로 읽는다.
+        @Index(name = "idx_orders_order_status_registered_date_time", columnList = "orderStatus, registeredDateTime, id"),
+        // 상태 조건 없는 주문 목록의 keyset 페이징용
+        @Index(name = "idx_orders_registered_date_time_id", columnList = "registeredDateTime, id")
+})
+@EntityListeners(OrderSalesListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq_generator")
+    @SequenceGenerator(name = "orders_seq_generator", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
     private OrderStatus orderStatus;
 
-    private int totalPrice;
+    // 상품 가격은 int지만 합계는 int 범위를 넘을 수 있으므로 long으로 저장한다.
+    private long totalPrice;
 
     private LocalDateTime registeredDateTime;
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
     private List<OrderProduct> orderProducts = new ArrayList<>();
 
+    // DB에 마지막으로 반영된(읽어 온) 주문 상태. 상태가 어떻게 바뀌었는지 OrderSalesListener가 비교하는 데 쓴다.
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private OrderStatus persistedOrderStatus;
+
     private Order(List<Product> products, LocalDateTime registeredDateTime) {
         this.orderStatus = OrderStatus.INIT;
         this.totalPrice = calculateTotalPrice(products);
         this.registeredDateTime = registeredDateTime;
-        this.orderProducts = products.stream()
-                .map(product -> new OrderProduct(this, product))
-                .collect(Collectors.toList());
+        this.orderProducts = createOrderProducts(products);
     }
 
     public static Order create(List<Product> products, LocalDateTime registeredDateTime) {
@@ -49,10 +60,21 @@ public class Order extends BaseEntity {
                 .build();
     }
 
-    private int calculateTotalPrice(List<Product> products) {
-        return products.stream()
-                .mapToInt(Product::getPrice)
-                .sum();
+    // 주문마다 호출되므로 스트림 대신 반복문으로 합계를 구한다.
+    private long calculateTotalPrice(List<Product> products) {
+        long totalPrice = 0;
+        for (int i = 0; i < products.size(); i++) {
+            totalPrice += products.get(i).getPrice();
+        }
+        return totalPrice;
+    }
+
+    private List<OrderProduct> createOrderProducts(List<Product> products) {
+        List<OrderProduct> orderProducts = new ArrayList<>(products.size());
+        for (int i = 0; i < products.size(); i++) {
+            orderProducts.add(new OrderProduct(this, products.get(i)));
+        }
+        return orderProducts;
     }
 
     @Builder
@@ -60,9 +82,27 @@ public class Order extends BaseEntity {
         this.orderStatus = orderStatus;
         this.totalPrice = calculateTotalPrice(products);
         this.registeredDateTime = registeredDateTime;
-        this.orderProducts = products.stream()
-                .map(product -> new OrderProduct(this, product))
-                .collect(Collectors.toList());
+        this.orderProducts = createOrderProducts(products);
+    }
+
+    public void changeOrderStatus(OrderStatus orderStatus) {
+        this.orderStatus = orderStatus;
+    }
+
+    public boolean isPaymentCompleted() {
+        return this.orderStatus == OrderStatus.PAYMENT_COMPLETED;
+    }
+
+    boolean wasPaymentCompleted() {
+        return this.persistedOrderStatus == OrderStatus.PAYMENT_COMPLETED;
+    }
+
+    // 엔티티 리스너(OrderSalesListener)가 먼저 호출된 뒤에 실행된다.
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    private void snapshotOrderStatus() {
+        this.persistedOrderStatus = this.orderStatus;
     }
 
 }
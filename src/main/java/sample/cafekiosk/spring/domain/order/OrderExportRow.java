@@ -0,0 +1,38 @@
+package sample.cafekiosk.spring.domain.order;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내보내기의 한 행. 주문상품 하나마다 한 행이며, 주문 정보는 같은 주문의 행마다 반복된다.
+ */
+@Getter
+public class OrderExportRow {
+
+    private final long orderId;
+
+    private final LocalDateTime registeredDateTime;
+
+    private final OrderStatus orderStatus;
+
+    private final long totalPrice;
+
+    private final String productNumber;
+
+    private final String productName;
+
+    private final int price;
+
+    public OrderExportRow(long orderId, LocalDateTime registeredDateTime, OrderStatus orderStatus, long totalPrice,
+                          String productNumber, String productName, int price) {
+        this.orderId = orderId;
+        this.registeredDateTime = registeredDateTime;
+        this.orderStatus = orderStatus;
+        this.totalPrice = totalPrice;
+        this.productNumber = productNumber;
+        this.productName = productName;
+        this.price = price;
+    }
+
+}
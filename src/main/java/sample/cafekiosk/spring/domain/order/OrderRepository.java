@@ -6,12 +6,31 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
 
     @Query("select o from Order o where o.registeredDateTime >= :startDateTime and o.registeredDateTime < :endDateTime " +
             "and o.orderStatus = :orderStatus")
     List<Order> findOrdersBy(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus);
 
+    // 주문상품과 상품까지 한 번에 읽는다. OrderResponse를 만들 때 주문상품마다 지연 로딩이 일어나지 않는다.
+    @Query("select distinct o from Order o left join fetch o.orderProducts op left join fetch op.product " +
+            "where o.id = :orderId order by op.id")
+    Optional<Order> findWithProductsById(Long orderId);
+
+    @Query("select coalesce(sum(o.totalPrice), 0) as totalAmount, count(o) as orderCount from Order o " +
+            "where o.registeredDateTime >= :startDateTime and o.registeredDateTime < :endDateTime " +
+            "and o.orderStatus = :orderStatus")
+    OrderSalesSummary summarizeOrdersBy(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus);
+
+    // 상품의 현재 가격이 아니라 주문상품에 저장된 주문 당시 가격으로 합산한다.
+    @Query("select p.type as type, sum(op.price) as totalAmount, count(op) as productCount " +
+            "from OrderProduct op join op.order o join op.product p " +
+            "where o.registeredDateTime >= :startDateTime and o.registeredDateTime < :endDateTime " +
+            "and o.orderStatus = :orderStatus " +
+            "group by p.type")
+    List<ProductTypeSalesSummary> summarizeProductTypesBy(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus);
+
 }
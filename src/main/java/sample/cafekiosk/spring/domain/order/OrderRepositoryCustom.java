@@ -0,0 +1,22 @@
+package sample.cafekiosk.spring.domain.order;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface OrderRepositoryCustom {
+
+    /**
+     * 주문을 (주문시간, id) 역순으로 limit개 조회한다. lastRegisteredDateTime, lastId가 있으면 그 주문 다음부터 읽는다. (keyset 페이징)
+     * offset을 쓰지 않으므로 몇 번째 페이지든 인덱스에서 바로 시작 위치를 찾는다. orderStatus가 null이면 모든 상태를 조회한다.
+     */
+    List<OrderSummary> findOrderSummariesBy(OrderStatus orderStatus, LocalDateTime lastRegisteredDateTime, Long lastId, int limit);
+
+
+    /**
+     * 기간 내 주문의 주문상품 행을 주문 id, 주문상품 id 순서로 하나씩 rowConsumer에 넘긴다.
+     * 결과를 모아 두지 않고 forward-only 커서로 fetchSize개씩 읽으므로, 행 수와 상관없이 메모리 사용량이 일정하다.
+     */
+    void streamOrderExportRowsBy(LocalDateTime startDateTime, LocalDateTime endDateTime, int fetchSize, Consumer<OrderExportRow> rowConsumer);
+
+}
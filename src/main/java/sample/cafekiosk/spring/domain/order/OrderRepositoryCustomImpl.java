@@ -0,0 +1,79 @@
+package sample.cafekiosk.spring.domain.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+
+    private static final RowMapper<OrderSummary> ORDER_SUMMARY_ROW_MAPPER = (rs, rowNum) -> new OrderSummary(
+            rs.getLong("id"),
+            OrderStatus.valueOf(rs.getString("order_status")),
+            rs.getLong("total_price"),
+            rs.getObject("registered_date_time", LocalDateTime.class)
+    );
+
+    private static final String EXPORT_SQL = "select o.id, o.registered_date_time, o.order_status, o.total_price, " +
+            "p.product_number, p.name, op.price from orders o " +
+            "join order_product op on op.order_id = o.id " +
+            "join product p on p.id = op.product_id " +
+            "where o.registered_date_time >= ? and o.registered_date_time < ? " +
+            "order by o.id, op.id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<OrderSummary> findOrderSummariesBy(OrderStatus orderStatus, LocalDateTime lastRegisteredDateTime, Long lastId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource().addValue("limit", limit);
+        List<String> conditions = new ArrayList<>();
+
+        if (orderStatus != null) {
+            conditions.add("o.order_status = :orderStatus");
+            params.addValue("orderStatus", orderStatus.name());
+        }
+        if (lastRegisteredDateTime != null && lastId != null) {
+            conditions.add("(o.registered_date_time < :lastRegisteredDateTime " +
+                    "or (o.registered_date_time = :lastRegisteredDateTime and o.id < :lastId))");
+            params.addValue("lastRegisteredDateTime", lastRegisteredDateTime)
+                    .addValue("lastId", lastId);
+        }
+
+        String sql = "select o.id, o.order_status, o.total_price, o.registered_date_time from orders o " +
+                (conditions.isEmpty() ? "" : "where " + String.join(" and ", conditions) + " ") +
+                "order by o.registered_date_time desc, o.id desc limit :limit";
+        return jdbcTemplate.query(sql, params, ORDER_SUMMARY_ROW_MAPPER);
+    }
+
+    // MySQL(Connector/J)은 useCursorFetch=true여야 fetchSize만큼 나눠 읽고, PostgreSQL은 트랜잭션 안에서만 커서를 쓴다.
+    @Override
+    public void streamOrderExportRowsBy(LocalDateTime startDateTime, LocalDateTime endDateTime, int fetchSize, Consumer<OrderExportRow> rowConsumer) {
+        RowCallbackHandler rowCallbackHandler = rs -> rowConsumer.accept(new OrderExportRow(
+                rs.getLong(1),
+                rs.getObject(2, LocalDateTime.class),
+                OrderStatus.valueOf(rs.getString(3)),
+                rs.getLong(4),
+                rs.getString(5),
+                rs.getString(6),
+                rs.getInt(7)
+        ));
+
+        jdbcTemplate.getJdbcOperations().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setObject(1, startDateTime);
+            statement.setObject(2, endDateTime);
+            return statement;
+        }, rowCallbackHandler);
+    }
+
+}
@@ -0,0 +1,51 @@
+package sample.cafekiosk.spring.domain.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import sample.cafekiosk.spring.domain.sales.DailySalesRepository;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 주문이 결제완료 상태가 되거나 결제완료 상태에서 벗어날 때 일자별 매출(daily_sales)을 같은 트랜잭션 안에서 증감한다.
+ */
+@RequiredArgsConstructor
+public class OrderSalesListener {
+
+    // 리스너는 EntityManagerFactory를 만드는 중에 생성되므로, repository는 실제로 쓰는 시점에 꺼낸다.
+    private final ObjectProvider<DailySalesRepository> dailySalesRepository;
+
+    @PostPersist
+    public void recordCreated(Order order) {
+        if (order.isPaymentCompleted()) {
+            addSales(order, 1);
+        }
+    }
+
+    @PostUpdate
+    public void recordStatusChanged(Order order) {
+        if (!order.wasPaymentCompleted() && order.isPaymentCompleted()) {
+            addSales(order, 1);
+        } else if (order.wasPaymentCompleted() && !order.isPaymentCompleted()) {
+            addSales(order, -1);
+        }
+    }
+
+    @PostRemove
+    public void recordRemoved(Order order) {
+        if (order.wasPaymentCompleted()) {
+            addSales(order, -1);
+        }
+    }
+
+    private void addSales(Order order, int sign) {
+        dailySalesRepository.getObject().addSales(
+                order.getRegisteredDateTime().toLocalDate(),
+                sign * order.getTotalPrice(),
+                sign
+        );
+    }
+
+}
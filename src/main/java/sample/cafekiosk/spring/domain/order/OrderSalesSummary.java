@@ -0,0 +1,12 @@
+package sample.cafekiosk.spring.domain.order;
+
+/**
+ * 기간 내 주문의 매출 합계와 주문 수 (DB에서 집계한 결과)
+ */
+public interface OrderSalesSummary {
+
+    long getTotalAmount();
+
+    long getOrderCount();
+
+}
@@ -0,0 +1,28 @@
+package sample.cafekiosk.spring.domain.order;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록용 요약. 주문상품 없이 orders 테이블의 컬럼만 읽는다.
+ */
+@Getter
+public class OrderSummary {
+
+    private final Long id;
+
+    private final OrderStatus orderStatus;
+
+    private final long totalPrice;
+
+    private final LocalDateTime registeredDateTime;
+
+    public OrderSummary(Long id, OrderStatus orderStatus, long totalPrice, LocalDateTime registeredDateTime) {
+        this.id = id;
+        this.orderStatus = orderStatus;
+        this.totalPrice = totalPrice;
+        this.registeredDateTime = registeredDateTime;
+    }
+
+}
@@ -0,0 +1,16 @@
+package sample.cafekiosk.spring.domain.order;
+
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+/**
+ * 기간 내 주문에 담긴 상품을 상품 타입별로 묶은 판매 금액과 판매 수량 (DB에서 집계한 결과)
+ */
+public interface ProductTypeSalesSummary {
+
+    ProductType getType();
+
+    long getTotalAmount();
+
+    long getProductCount();
+
+}
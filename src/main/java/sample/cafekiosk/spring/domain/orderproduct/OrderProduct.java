@@ -15,7 +15,8 @@ import javax.persistence.*;
 public class OrderProduct extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_product_seq_generator")
+    @SequenceGenerator(name = "order_product_seq_generator", sequenceName = "order_product_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -24,9 +25,13 @@ public class OrderProduct extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     private Product product;
 
+    // 상품 가격은 나중에 바뀔 수 있으므로 주문할 때의 가격을 함께 저장한다.
+    private int price;
+
     public OrderProduct(Order order, Product product) {
         this.order = order;
         this.product = product;
+        this.price = product.getPrice();
     }
 
 }
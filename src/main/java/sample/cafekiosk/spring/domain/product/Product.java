@@ -1,18 +1,27 @@
 package sample.cafekiosk.spring.domain.product;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import sample.cafekiosk.spring.domain.BaseEntity;
 
 import javax.persistence.*;
 
 @Getter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product")
 @ToString
+@EntityListeners(ProductChangeListener.class)
+@Table(indexes = {
+        @Index(name = "uk_product_product_number", columnList = "productNumber", unique = true)
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Product extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq_generator")
+    @SequenceGenerator(name = "product_seq_generator", sequenceName = "product_seq", allocationSize = 50)
     private Long id;
 
     private String productNumber;
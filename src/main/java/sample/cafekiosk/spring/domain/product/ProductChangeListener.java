@@ -0,0 +1,25 @@
+package sample.cafekiosk.spring.domain.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 상품이 등록, 변경(판매상태 등), 삭제될 때마다 ProductChangedEvent를 발행한다.
+ */
+@RequiredArgsConstructor
+public class ProductChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void publishChanged(Product product) {
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getProductNumber()));
+    }
+
+}
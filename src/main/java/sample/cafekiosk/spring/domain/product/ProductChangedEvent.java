@@ -0,0 +1,12 @@
+package sample.cafekiosk.spring.domain.product;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ProductChangedEvent {
+
+    private final String productNumber;
+
+}
@@ -0,0 +1,43 @@
+package sample.cafekiosk.spring.domain.product;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.BaseEntity;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * 상품번호 발급 현황. 각 노드는 이 행을 잠그고 blockSize만큼의 번호 구간을 한 번에 가져가서 메모리에서 나눠 준다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductNumberSequence extends BaseEntity {
+
+    @Id
+    private String name;
+
+    // 아직 어느 노드에도 발급되지 않은 첫 번호
+    private long nextValue;
+
+    private ProductNumberSequence(String name, long nextValue) {
+        this.name = name;
+        this.nextValue = nextValue;
+    }
+
+    public static ProductNumberSequence create(String name, long nextValue) {
+        return new ProductNumberSequence(name, nextValue);
+    }
+
+    /**
+     * [nextValue, nextValue + blockSize) 구간을 발급하고 구간의 시작 번호를 반환한다.
+     */
+    public long allocate(int blockSize) {
+        long start = this.nextValue;
+        this.nextValue += blockSize;
+        return start;
+    }
+
+}
@@ -1,9 +1,12 @@
 package sample.cafekiosk.spring.domain.product;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 
 @Repository
@@ -11,9 +14,13 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     List<Product> findAllBySellingStatusIn(List<ProductSellingStatus> sellingStatuses);
 
+    // 결과는 상품 id만 쿼리 캐시에 남고 상품은 2차 캐시에서 읽는다. 상품 테이블이 바뀌면 Hibernate가 무효화한다.
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<Product> findAllByProductNumberIn(List<String> productNumbers);
 
-    @Query(value = "select p.product_number from Product p order by p.id desc limit 1", nativeQuery = true)
-    String findLatestProductNumber();
+    // 상품번호는 0을 채운 숫자이므로 길이가 길수록, 길이가 같으면 사전순으로 뒤에 올수록 큰 번호다.
+    // 숫자가 아닌 상품번호도 섞여 나오므로 숫자인지는 읽는 쪽에서 확인한다.
+    @Query("select p.productNumber from Product p order by length(p.productNumber) desc, p.productNumber desc")
+    List<String> findProductNumbersInDescendingOrder(Pageable pageable);
 
 }
@@ -3,8 +3,6 @@ package sample.cafekiosk.spring.domain.product;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-import java.util.List;
-
 @Getter
 @RequiredArgsConstructor
 public enum ProductType {
@@ -15,8 +13,9 @@ public enum ProductType {
 
     private final String text;
 
+    // 주문 상품마다 호출되므로 목록을 만들지 않고 바로 비교한다.
     public static boolean containsStockType(ProductType type) {
-        return List.of(BOTTLE, BAKERY).contains(type);
+        return type == BOTTLE || type == BAKERY;
     }
 
 }
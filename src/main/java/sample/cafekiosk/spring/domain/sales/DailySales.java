@@ -0,0 +1,35 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.BaseEntity;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDate;
+
+/**
+ * 일자별 결제완료 주문의 매출 합계. 주문 상태가 바뀔 때마다 OrderSalesListener가 증감한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailySales extends BaseEntity {
+
+    @Id
+    private LocalDate salesDate;
+
+    private long totalAmount;
+
+    private int orderCount;
+
+    @Builder
+    private DailySales(LocalDate salesDate, long totalAmount, int orderCount) {
+        this.salesDate = salesDate;
+        this.totalAmount = totalAmount;
+        this.orderCount = orderCount;
+    }
+
+}
@@ -0,0 +1,17 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import java.time.LocalDate;
+
+public interface DailySalesRepositoryCustom {
+
+    /**
+     * 해당 일자의 매출 합계와 주문 수를 증감한다. 그날의 행이 없으면 새로 만든다.
+     */
+    void addSales(LocalDate salesDate, long amount, int orderCount);
+
+    /**
+     * 기간(fromDate ~ toDate)의 집계를 지우고 orders 테이블의 결제완료 주문으로 다시 계산한다. 다시 만든 일자 수를 반환한다.
+     */
+    int rebuild(LocalDate fromDate, LocalDate toDate);
+
+}
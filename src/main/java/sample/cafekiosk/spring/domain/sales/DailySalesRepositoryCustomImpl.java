@@ -0,0 +1,83 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.sql.Savepoint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class DailySalesRepositoryCustomImpl implements DailySalesRepositoryCustom {
+
+    private static final String ADD_SQL = "update daily_sales set total_amount = total_amount + :amount, " +
+            "order_count = order_count + :orderCount, modified_date_time = :now where sales_date = :salesDate";
+
+    private static final String INSERT_SQL = "insert into daily_sales (sales_date, total_amount, order_count, created_date_time, modified_date_time) " +
+            "values (:salesDate, :amount, :orderCount, :now, :now)";
+
+    private static final String DELETE_SQL = "delete from daily_sales where sales_date >= :fromDate and sales_date <= :toDate";
+
+    private static final String REBUILD_SQL = "insert into daily_sales (sales_date, total_amount, order_count, created_date_time, modified_date_time) " +
+            "select cast(o.registered_date_time as date), sum(o.total_price), count(*), :now, :now from orders o " +
+            "where o.order_status = :orderStatus and o.registered_date_time >= :startDateTime and o.registered_date_time < :endDateTime " +
+            "group by cast(o.registered_date_time as date)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addSales(LocalDate salesDate, long amount, int orderCount) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("salesDate", salesDate)
+                .addValue("amount", amount)
+                .addValue("orderCount", orderCount)
+                .addValue("now", LocalDateTime.now());
+
+        if (jdbcTemplate.update(ADD_SQL, params) > 0) {
+            return;
+        }
+        insertOrAdd(params);
+    }
+
+    @Override
+    public int rebuild(LocalDate fromDate, LocalDate toDate) {
+        jdbcTemplate.update(DELETE_SQL, new MapSqlParameterSource()
+                .addValue("fromDate", fromDate)
+                .addValue("toDate", toDate));
+
+        return jdbcTemplate.update(REBUILD_SQL, new MapSqlParameterSource()
+                .addValue("orderStatus", OrderStatus.PAYMENT_COMPLETED.name())
+                .addValue("startDateTime", fromDate.atStartOfDay())
+                .addValue("endDateTime", toDate.plusDays(1).atStartOfDay())
+                .addValue("now", LocalDateTime.now()));
+    }
+
+    /**
+     * 그날의 첫 매출이면 행을 만든다. 아직 커밋되지 않은 다른 트랜잭션의 행은 보이지 않으므로, 동시에 첫 매출을 기록하면
+     * 한쪽은 중복 키로 실패한다. 그때는 insert만 savepoint로 되돌리고 먼저 만들어진 행에 더한다.
+     * PostgreSQL처럼 실패한 문장이 트랜잭션 전체를 중단시키는 DB에서도 savepoint로 되돌리면 주문 트랜잭션을 이어갈 수 있다.
+     */
+    private void insertOrAdd(MapSqlParameterSource params) {
+        jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<Void>) connection -> {
+            Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+            try {
+                jdbcTemplate.update(INSERT_SQL, params);
+            } catch (DuplicateKeyException e) {
+                if (savepoint != null) {
+                    connection.rollback(savepoint);
+                }
+                jdbcTemplate.update(ADD_SQL, params);
+                return null;
+            }
+            if (savepoint != null) {
+                connection.releaseSavepoint(savepoint);
+            }
+            return null;
+        });
+    }
+
+}
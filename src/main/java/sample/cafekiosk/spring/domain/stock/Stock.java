@@ -10,14 +10,21 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
 
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "uk_stock_product_number", columnList = "productNumber", unique = true)
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Stock extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_seq_generator")
+    @SequenceGenerator(name = "stock_seq_generator", sequenceName = "stock_seq", allocationSize = 50)
     private Long id;
 
     private String productNumber;
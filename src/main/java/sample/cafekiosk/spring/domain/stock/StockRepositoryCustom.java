@@ -0,0 +1,35 @@
+package sample.cafekiosk.spring.domain.stock;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface StockRepositoryCustom {
+
+    /**
+     * 재고가 충분한 상품만 조건부로 차감한다. (quantity = quantity - ? where quantity >= ?)
+     * 한 번의 배치 쿼리로 실행되며, 차감하지 못한 상품번호 목록을 반환한다.
+     */
+    List<String> deductQuantitiesIfEnough(Map<String, Integer> deductQuantities);
+
+    Map<String, Integer> findQuantitiesBy(Collection<String> productNumbers);
+
+    /**
+     * 상품번호 순서로 재고 row에 쓰기 잠금(select ... for update)을 걸고 수량을 조회한다. 잠금은 트랜잭션이 끝날 때까지 유지된다.
+     */
+    Map<String, Integer> findQuantitiesForUpdateBy(Collection<String> productNumbers);
+
+    /**
+     * 재고 수량에서 아직 반영되지 않은 예약(stock_reservation) 수량을 뺀, 실제로 판매 가능한 수량을 조회한다.
+     */
+    Map<String, Integer> findAvailableQuantitiesBy(Collection<String> productNumbers);
+
+    void deductQuantities(Map<String, Integer> deductQuantities);
+
+    /**
+     * 조회했던 수량(expected)이 그대로인 경우에만 차감한 수량으로 갱신한다.
+     * 다른 트랜잭션이 먼저 수량을 바꿔서 갱신하지 못한 상품번호 목록을 반환한다.
+     */
+    List<String> compareAndDeductQuantities(Map<String, Integer> expectedQuantities, Map<String, Integer> deductQuantities);
+
+}
@@ -0,0 +1,131 @@
+package sample.cafekiosk.spring.domain.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+@RequiredArgsConstructor
+public class StockRepositoryCustomImpl implements StockRepositoryCustom {
+
+    private static final String DEDUCT_IF_ENOUGH_SQL = "update stock set quantity = quantity - :quantity, modified_date_time = :now " +
+            "where product_number = :productNumber and quantity >= :quantity";
+
+    private static final String COMPARE_AND_DEDUCT_SQL = "update stock set quantity = :expected - :quantity, modified_date_time = :now " +
+            "where product_number = :productNumber and quantity = :expected";
+
+    private static final String DEDUCT_SQL = "update stock set quantity = quantity - :quantity, modified_date_time = :now " +
+            "where product_number = :productNumber";
+
+    private static final String FIND_QUANTITIES_SQL = "select product_number, quantity from stock where product_number in (:productNumbers)";
+
+    private static final String FIND_QUANTITIES_FOR_UPDATE_SQL = "select product_number, quantity from stock " +
+            "where product_number in (:productNumbers) order by product_number for update";
+
+    private static final String FIND_AVAILABLE_QUANTITIES_SQL = "select s.product_number, " +
+            "s.quantity - coalesce((select sum(r.quantity) from stock_reservation r where r.product_number = s.product_number), 0) as quantity " +
+            "from stock s where s.product_number in (:productNumbers)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<String> deductQuantitiesIfEnough(Map<String, Integer> deductQuantities) {
+        // 여러 주문이 같은 상품들을 동시에 차감할 때 데드락이 나지 않도록 항상 상품번호 순서로 row lock을 잡는다.
+        List<String> productNumbers = new ArrayList<>(new TreeSet<>(deductQuantities.keySet()));
+        LocalDateTime now = LocalDateTime.now();
+
+        MapSqlParameterSource[] params = productNumbers.stream()
+                .map(productNumber -> new MapSqlParameterSource()
+                        .addValue("productNumber", productNumber)
+                        .addValue("quantity", deductQuantities.get(productNumber))
+                        .addValue("now", now))
+                .toArray(MapSqlParameterSource[]::new);
+
+        int[] updatedCounts = jdbcTemplate.batchUpdate(DEDUCT_IF_ENOUGH_SQL, params);
+        return collectNotUpdated(productNumbers, updatedCounts);
+    }
+
+    @Override
+    public void deductQuantities(Map<String, Integer> deductQuantities) {
+        List<String> productNumbers = new ArrayList<>(new TreeSet<>(deductQuantities.keySet()));
+        LocalDateTime now = LocalDateTime.now();
+
+        MapSqlParameterSource[] params = productNumbers.stream()
+                .map(productNumber -> new MapSqlParameterSource()
+                        .addValue("productNumber", productNumber)
+                        .addValue("quantity", deductQuantities.get(productNumber))
+                        .addValue("now", now))
+                .toArray(MapSqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(DEDUCT_SQL, params);
+    }
+
+    @Override
+    public Map<String, Integer> findQuantitiesBy(Collection<String> productNumbers) {
+        return queryQuantities(FIND_QUANTITIES_SQL, productNumbers);
+    }
+
+    @Override
+    public Map<String, Integer> findQuantitiesForUpdateBy(Collection<String> productNumbers) {
+        return queryQuantities(FIND_QUANTITIES_FOR_UPDATE_SQL, productNumbers);
+    }
+
+    @Override
+    public Map<String, Integer> findAvailableQuantitiesBy(Collection<String> productNumbers) {
+        // 재고와 예약 합계를 한 쿼리로 읽어야 그 사이에 반영(flush)이 끼어들어도 같은 시점의 값을 얻는다.
+        return queryQuantities(FIND_AVAILABLE_QUANTITIES_SQL, productNumbers);
+    }
+
+    @Override
+    public List<String> compareAndDeductQuantities(Map<String, Integer> expectedQuantities, Map<String, Integer> deductQuantities) {
+        List<String> productNumbers = new ArrayList<>(new TreeSet<>(deductQuantities.keySet()));
+        LocalDateTime now = LocalDateTime.now();
+
+        MapSqlParameterSource[] params = productNumbers.stream()
+                .map(productNumber -> new MapSqlParameterSource()
+                        .addValue("productNumber", productNumber)
+                        .addValue("expected", expectedQuantities.get(productNumber))
+                        .addValue("quantity", deductQuantities.get(productNumber))
+                        .addValue("now", now))
+                .toArray(MapSqlParameterSource[]::new);
+
+        int[] updatedCounts = jdbcTemplate.batchUpdate(COMPARE_AND_DEDUCT_SQL, params);
+        return collectNotUpdated(productNumbers, updatedCounts);
+    }
+
+    private Map<String, Integer> queryQuantities(String sql, Collection<String> productNumbers) {
+        if (productNumbers.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Integer> quantities = new HashMap<>();
+        jdbcTemplate.query(sql,
+                Map.of("productNumbers", productNumbers),
+                rs -> {
+                    quantities.put(rs.getString("product_number"), rs.getInt("quantity"));
+                });
+        return quantities;
+    }
+
+    /**
+     * 상품번호마다 정확히 1행이 바뀌었어야 차감된 것이다. 0행이면 조건이 맞지 않아 차감하지 못한 상품으로 돌려준다.
+     * 드라이버가 SUCCESS_NO_INFO(-2)처럼 바뀐 행 수를 알려 주지 않으면 차감됐는지 알 수 없으므로,
+     * 호출한 쪽이 다시 차감하지 않도록 예외를 던져 트랜잭션을 롤백시킨다.
+     */
+    private static List<String> collectNotUpdated(List<String> productNumbers, int[] updatedCounts) {
+        List<String> notUpdated = new ArrayList<>();
+        for (int i = 0; i < updatedCounts.length; i++) {
+            if (updatedCounts[i] == 1) {
+                continue;
+            }
+            if (updatedCounts[i] != 0) {
+                throw new IllegalStateException("재고 차감 결과를 확인할 수 없습니다. productNumber=" + productNumbers.get(i) + ", updatedCount=" + updatedCounts[i]);
+            }
+            notUpdated.add(productNumbers.get(i));
+        }
+        return notUpdated;
+    }
+
+}
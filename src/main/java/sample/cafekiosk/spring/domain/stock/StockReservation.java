@@ -0,0 +1,45 @@
+package sample.cafekiosk.spring.domain.stock;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.BaseEntity;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+
+/**
+ * 메모리 원장에서 예약했지만 아직 stock 테이블에 반영되지 않은 재고 차감 기록
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockReservation extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_reservation_seq_generator")
+    @SequenceGenerator(name = "stock_reservation_seq_generator", sequenceName = "stock_reservation_seq", allocationSize = 50)
+    private Long id;
+
+    private String productNumber;
+
+    private int quantity;
+
+    @Builder
+    private StockReservation(String productNumber, int quantity) {
+        this.productNumber = productNumber;
+        this.quantity = quantity;
+    }
+
+    public static StockReservation create(String productNumber, int quantity) {
+        return StockReservation.builder()
+                .productNumber(productNumber)
+                .quantity(quantity)
+                .build();
+    }
+
+}
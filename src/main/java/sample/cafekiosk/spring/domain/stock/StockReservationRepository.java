@@ -0,0 +1,14 @@
+package sample.cafekiosk.spring.domain.stock;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    List<StockReservation> findAllByOrderByIdAsc(Pageable pageable);
+
+}
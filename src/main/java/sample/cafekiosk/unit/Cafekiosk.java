@@ -1,72 +1,146 @@
 package sample.cafekiosk.unit;
 
-import lombok.Getter;
+import sample.cafekiosk.schedule.BusinessHours;
 import sample.cafekiosk.unit.order.Order;
+import sample.cafekiosk.unit.order.OrderLine;
 
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
-@Getter
+/**
+ * 같은 음료는 한 줄에 수량으로 모아 담고, 담거나 뺄 때마다 총 금액을 함께 갱신한다.
+ * 단체 주문처럼 같은 음료를 수백 잔 담아도 담기, 빼기, 총 금액 계산은 음료 종류 수와 상관없이 한 번에 끝난다.
+ */
 public class Cafekiosk {
 
-    private static final LocalTime SHOP_OPEN_TIME = LocalTime.of(10, 0);
-    private static final LocalTime SHOP_CLOSE_TIME = LocalTime.of(22, 0);
+    static final BusinessHours DEFAULT_BUSINESS_HOURS = BusinessHours.parse("MON-SUN 10:00-22:00");
 
-    private final List<Beverage> beverages = new ArrayList<>();
+    // 주문할 때마다 다시 읽으므로, BusinessHoursRegistry에서 꺼내 오게 하면 운영 중에 영업시간을 바꿔도 바로 반영된다.
+    private final Supplier<BusinessHours> businessHours;
+
+    // 담은 순서를 유지한다. 음료 이름으로 묶으므로 따로 만든 음료 인스턴스도 같은 음료면 한 줄로 모인다.
+    private final Map<String, CartLine> lines = new LinkedHashMap<>();
+
+    // 담을 수 있는 음료 종류(줄) 수. 같은 음료는 수량만 늘어나므로 장바구니 하나가 차지하는 메모리는 이 값에 비례한다.
+    private final int maxLines;
+
+    private int totalPrice;
+
+    public Cafekiosk() {
+        this(() -> DEFAULT_BUSINESS_HOURS);
+    }
+
+    public Cafekiosk(Supplier<BusinessHours> businessHours) {
+        this(businessHours, Integer.MAX_VALUE);
+    }
+
+    public Cafekiosk(Supplier<BusinessHours> businessHours, int maxLines) {
+        if (maxLines <= 0) {
+            throw new IllegalArgumentException("장바구니에 담을 수 있는 음료 종류 수는 1 이상이어야 합니다.");
+        }
+        this.businessHours = businessHours;
+        this.maxLines = maxLines;
+    }
 
     public void add(Beverage beverage) {
-        beverages.add(beverage);
+        addLine(beverage, 1);
     }
 
     public void add(Beverage beverage, int count) {
         if (count <= 0) {
             throw new IllegalArgumentException("음료는 1잔 이상 주문하실 수 있습니다.");
         }
-        for (int i = 0; i < count; i++) {
-            beverages.add(beverage);
-        }
+        addLine(beverage, count);
     }
 
     public void remove(Beverage beverage) {
-        beverages.remove(beverage);
+        CartLine line = lines.get(beverage.getName());
+        if (line == null) {
+            return;
+        }
+
+        line.quantity--;
+        totalPrice -= line.beverage.getPrice();
+        if (line.quantity == 0) {
+            lines.remove(beverage.getName());
+        }
     }
 
     public void clear() {
-        beverages.clear();
+        lines.clear();
+        totalPrice = 0;
     }
 
     public int calculateTotalPrice() {
-        return beverages.stream()
-                .mapToInt(Beverage::getPrice)
-                .sum();
+        return totalPrice;
     }
 
-    public Order createOrder() {
+    public int getQuantity(Beverage beverage) {
+        CartLine line = lines.get(beverage.getName());
+        return line == null ? 0 : line.quantity;
+    }
 
-        LocalDateTime currentDateTime = LocalDateTime.now();
-        LocalTime currentTime = currentDateTime.toLocalTime();
+    /**
+     * 담은 음료를 한 잔씩 펼친 목록. 같은 음료는 처음 담은 자리에 모여 있다.
+     */
+    public List<Beverage> getBeverages() {
+        List<Beverage> beverages = new ArrayList<>();
+        for (CartLine line : lines.values()) {
+            for (int i = 0; i < line.quantity; i++) {
+                beverages.add(line.beverage);
+            }
+        }
+        return beverages;
+    }
 
-        if (currentTime.isBefore(SHOP_OPEN_TIME) || currentTime.isAfter(SHOP_CLOSE_TIME)) {
-            throw new IllegalArgumentException("주문 시간이 아닙니다. 관리자에게 문의하세요.");
+    // 장바구니는 계속 바뀌므로 줄마다 지금 수량으로 OrderLine을 만들어 넘긴다.
+    private List<OrderLine> createOrderLines() {
+        List<OrderLine> orderLines = new ArrayList<>(lines.size());
+        for (CartLine line : lines.values()) {
+            orderLines.add(new OrderLine(line.beverage, line.quantity));
         }
+        return orderLines;
+    }
 
-        return new Order(currentDateTime, beverages);
+    private void addLine(Beverage beverage, int count) {
+        CartLine line = lines.get(beverage.getName());
+        if (line == null) {
+            if (lines.size() >= maxLines) {
+                throw new IllegalArgumentException("음료는 " + maxLines + "종류까지 담으실 수 있습니다.");
+            }
+            line = new CartLine(beverage);
+            lines.put(beverage.getName(), line);
+        }
+        line.quantity += count;
+        totalPrice += line.beverage.getPrice() * count;
+    }
 
+    public Order createOrder() {
+        return createOrder(LocalDateTime.now());
     }
 
     public Order createOrder(LocalDateTime currentDateTime) {
-
-        LocalTime currentTime = currentDateTime.toLocalTime();
-
-        if (currentTime.isBefore(SHOP_OPEN_TIME) || currentTime.isAfter(SHOP_CLOSE_TIME)) {
+        if (!businessHours.get().isOpen(currentDateTime)) {
             throw new IllegalArgumentException("주문 시간이 아닙니다. 관리자에게 문의하세요.");
         }
 
-        return new Order(currentDateTime, beverages);
-
+        return new Order(currentDateTime, createOrderLines());
     }
 
+    private static class CartLine {
+
+        private final Beverage beverage;
+
+        private int quantity;
+
+        private CartLine(Beverage beverage) {
+            this.beverage = beverage;
+        }
+
+    }
 
 }
@@ -0,0 +1,210 @@
+package sample.cafekiosk.unit;
+
+import sample.cafekiosk.schedule.BusinessHours;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 키오스크 단말마다 따로 쓰는 장바구니(Cafekiosk)를 세션 id로 관리한다.
+ * 세션마다 따로 잠그므로 여러 단말이 동시에 담고 빼도 서로 기다리지 않고, 오래 손대지 않은 세션은 주기적으로 정리한다.
+ * 열 수 있는 세션 수와 장바구니마다 담을 수 있는 음료 종류 수에 상한을 두어, 세션이 쓰는 메모리가 (세션 수 x 종류 수)를 넘지 않게 한다.
+ * 영업시간은 장바구니마다 Supplier로 넘기므로, BusinessHoursRegistry에서 매장별 영업시간을 꺼내 오게 할 수 있다.
+ */
+public class CafekioskSessionManager implements AutoCloseable {
+
+    private static final int DEFAULT_MAX_CART_LINES = 50;
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    // ConcurrentHashMap.size()는 추가와 동시에 읽으면 정확하지 않으므로 상한 검사는 따로 센다.
+    private final AtomicInteger sessionCount = new AtomicInteger();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    private final long idleTimeoutNanos;
+
+    private final int maxSessions;
+
+    private final int maxCartLines;
+
+    private final Supplier<BusinessHours> businessHours;
+
+    private final LongSupplier nanoClock;
+
+    private ScheduledExecutorService evictionScheduler;
+
+    public CafekioskSessionManager(Duration idleTimeout, int maxSessions) {
+        this(idleTimeout, maxSessions, DEFAULT_MAX_CART_LINES, () -> Cafekiosk.DEFAULT_BUSINESS_HOURS);
+    }
+
+    public CafekioskSessionManager(Duration idleTimeout, int maxSessions, int maxCartLines, Supplier<BusinessHours> businessHours) {
+        this(idleTimeout, maxSessions, maxCartLines, businessHours, System::nanoTime);
+    }
+
+    CafekioskSessionManager(Duration idleTimeout, int maxSessions, int maxCartLines, Supplier<BusinessHours> businessHours,
+                            LongSupplier nanoClock) {
+        if (idleTimeout.isNegative() || idleTimeout.isZero()) {
+            throw new IllegalArgumentException("세션 만료 시간은 0보다 커야 합니다.");
+        }
+        if (maxSessions <= 0) {
+            throw new IllegalArgumentException("최대 세션 수는 1 이상이어야 합니다.");
+        }
+        if (maxCartLines <= 0) {
+            throw new IllegalArgumentException("장바구니에 담을 수 있는 음료 종류 수는 1 이상이어야 합니다.");
+        }
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.maxSessions = maxSessions;
+        this.maxCartLines = maxCartLines;
+        this.businessHours = businessHours;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * evictionInterval마다 만료된 세션을 정리하는 데몬 스레드를 시작한다.
+     */
+    public synchronized void startEviction(Duration evictionInterval) {
+        if (evictionScheduler != null) {
+            throw new IllegalStateException("이미 세션 정리를 시작했습니다.");
+        }
+
+        evictionScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cafekiosk-session-eviction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalNanos = evictionInterval.toNanos();
+        evictionScheduler.scheduleWithFixedDelay(this::evictIdleSessions, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 새 세션을 열고 세션 id를 반환한다. 세션 수가 상한에 닿으면 만료된 세션을 먼저 정리해 보고, 그래도 자리가 없으면 예외가 발생한다.
+     */
+    public String open() {
+        if (!reserveSlot()) {
+            evictIdleSessions();
+            if (!reserveSlot()) {
+                throw new IllegalStateException("동시에 열 수 있는 주문 세션 수를 넘었습니다.");
+            }
+        }
+
+        String sessionId = UUID.randomUUID().toString();
+        sessions.put(sessionId, new Session(new Cafekiosk(businessHours, maxCartLines), nanoClock.getAsLong()));
+        return sessionId;
+    }
+
+    /**
+     * 세션의 장바구니로 작업한다. 같은 세션에 대한 작업은 한 번에 하나씩 실행되고, 작업할 때마다 만료 시간이 늘어난다.
+     */
+    public <T> T execute(String sessionId, Function<Cafekiosk, T> action) {
+        Session session = sessions.get(sessionId);
+        if (session == null) {
+            throw new IllegalArgumentException("존재하지 않거나 만료된 주문 세션입니다.");
+        }
+
+        synchronized (session) {
+            // 조회한 뒤 잠그기 전에 정리됐을 수 있다.
+            if (session.closed) {
+                throw new IllegalArgumentException("존재하지 않거나 만료된 주문 세션입니다.");
+            }
+            session.lastAccessNanos = nanoClock.getAsLong();
+            return action.apply(session.cafekiosk);
+        }
+    }
+
+    public void close(String sessionId) {
+        Session session = sessions.get(sessionId);
+        if (session != null) {
+            remove(sessionId, session);
+        }
+    }
+
+    /**
+     * 만료 시간이 지난 세션을 정리하고 정리한 수를 반환한다. 세션 하나씩만 잠그므로 다른 세션의 작업은 멈추지 않는다.
+     */
+    public int evictIdleSessions() {
+        long now = nanoClock.getAsLong();
+        int evicted = 0;
+        for (Map.Entry<String, Session> entry : sessions.entrySet()) {
+            Session session = entry.getValue();
+            if (now - session.lastAccessNanos < idleTimeoutNanos) {
+                continue;
+            }
+
+            synchronized (session) {
+                // 잠그는 사이에 작업이 들어왔으면 다시 확인한다.
+                if (now - session.lastAccessNanos >= idleTimeoutNanos && remove(entry.getKey(), session)) {
+                    evicted++;
+                }
+            }
+        }
+        evictionCount.add(evicted);
+        return evicted;
+    }
+
+    public int getActiveSessionCount() {
+        return sessionCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (evictionScheduler != null) {
+            evictionScheduler.shutdownNow();
+            evictionScheduler = null;
+        }
+    }
+
+    private boolean reserveSlot() {
+        while (true) {
+            int count = sessionCount.get();
+            if (count >= maxSessions) {
+                return false;
+            }
+            if (sessionCount.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean remove(String sessionId, Session session) {
+        synchronized (session) {
+            if (session.closed) {
+                return false;
+            }
+            session.closed = true;
+        }
+        sessions.remove(sessionId, session);
+        sessionCount.decrementAndGet();
+        return true;
+    }
+
+    private static class Session {
+
+        private final Cafekiosk cafekiosk;
+
+        private volatile long lastAccessNanos;
+
+        private boolean closed;
+
+        private Session(Cafekiosk cafekiosk, long lastAccessNanos) {
+            this.cafekiosk = cafekiosk;
+            this.lastAccessNanos = lastAccessNanos;
+        }
+
+    }
+
+}
@@ -1,18 +1,81 @@
 package sample.cafekiosk.unit.order;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import sample.cafekiosk.unit.Beverage;
 
 import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 
+/**
+ * 주문 시점의 장바구니 스냅샷. 음료를 한 잔씩 복사하지 않고 음료 종류별 줄(OrderLine)만 복사하므로 만드는 비용은 줄 수에 비례한다.
+ * 모든 필드가 final이고 바뀌지 않으므로, 주문을 만든 뒤 장바구니를 바꾸거나 다른 스레드에 넘겨도 내용이 달라지지 않는다.
+ */
 @Getter
-@RequiredArgsConstructor
 public class Order {
 
     private final LocalDateTime orderDateTime;
 
+    private final List<OrderLine> lines;
+
+    private final int totalPrice;
+
     private final List<Beverage> beverages;
 
+    public Order(LocalDateTime orderDateTime, List<OrderLine> lines) {
+        this.orderDateTime = orderDateTime;
+        this.lines = List.copyOf(lines);
+        this.totalPrice = calculateTotalPrice(this.lines);
+        this.beverages = new BeverageView(this.lines);
+    }
+
+    private static int calculateTotalPrice(List<OrderLine> lines) {
+        int totalPrice = 0;
+        for (OrderLine line : lines) {
+            totalPrice += line.getPrice();
+        }
+        return totalPrice;
+    }
+
+    /**
+     * 음료를 한 잔씩 펼친 읽기 전용 목록. 펼친 리스트를 만들지 않고, 줄별 누적 수량으로 i번째 음료가 속한 줄을 찾는다.
+     */
+    private static class BeverageView extends AbstractList<Beverage> {
+
+        private final List<OrderLine> lines;
+
+        // endIndexes[i]는 i번째 줄까지의 누적 수량
+        private final int[] endIndexes;
+
+        private BeverageView(List<OrderLine> lines) {
+            this.lines = lines;
+            this.endIndexes = new int[lines.size()];
+            int endIndex = 0;
+            for (int i = 0; i < lines.size(); i++) {
+                endIndex += lines.get(i).getQuantity();
+                endIndexes[i] = endIndex;
+            }
+        }
+
+        @Override
+        public Beverage get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+
+            int lineIndex = Arrays.binarySearch(endIndexes, index + 1);
+            if (lineIndex < 0) {
+                lineIndex = -lineIndex - 1;
+            }
+            return lines.get(lineIndex).getBeverage();
+        }
+
+        @Override
+        public int size() {
+            return endIndexes.length == 0 ? 0 : endIndexes[endIndexes.length - 1];
+        }
+
+    }
+
 }
@@ -0,0 +1,28 @@
+package sample.cafekiosk.unit.order;
+
+import lombok.Getter;
+import sample.cafekiosk.unit.Beverage;
+
+/**
+ * 주문한 음료 한 종류와 수량. 만들어진 뒤에는 바뀌지 않는다.
+ */
+@Getter
+public class OrderLine {
+
+    private final Beverage beverage;
+
+    private final int quantity;
+
+    public OrderLine(Beverage beverage, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("음료는 1잔 이상 주문하실 수 있습니다.");
+        }
+        this.beverage = beverage;
+        this.quantity = quantity;
+    }
+
+    public int getPrice() {
+        return beverage.getPrice() * quantity;
+    }
+
+}
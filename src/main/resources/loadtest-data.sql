@@ -0,0 +1,64 @@
+-- 부하 테스트 상품. 101~120은 제조 음료, 121~140은 재고가 있는 병 음료와 베이커리
+insert into product(id, product_number, type, selling_status, name, price)
+values (next value for product_seq, '101', 'HANDMADE', 'SELLING', '부하테스트 상품 101', 1500),
+       (next value for product_seq, '102', 'HANDMADE', 'SELLING', '부하테스트 상품 102', 2000),
+       (next value for product_seq, '103', 'HANDMADE', 'SELLING', '부하테스트 상품 103', 2500),
+       (next value for product_seq, '104', 'HANDMADE', 'SELLING', '부하테스트 상품 104', 3000),
+       (next value for product_seq, '105', 'HANDMADE', 'SELLING', '부하테스트 상품 105', 3500),
+       (next value for product_seq, '106', 'HANDMADE', 'SELLING', '부하테스트 상품 106', 4000),
+       (next value for product_seq, '107', 'HANDMADE', 'SELLING', '부하테스트 상품 107', 4500),
+       (next value for product_seq, '108', 'HANDMADE', 'SELLING', '부하테스트 상품 108', 5000),
+       (next value for product_seq, '109', 'HANDMADE', 'SELLING', '부하테스트 상품 109', 5500),
+       (next value for product_seq, '110', 'HANDMADE', 'SELLING', '부하테스트 상품 110', 1000),
+       (next value for product_seq, '111', 'HANDMADE', 'SELLING', '부하테스트 상품 111', 1500),
+       (next value for product_seq, '112', 'HANDMADE', 'SELLING', '부하테스트 상품 112', 2000),
+       (next value for product_seq, '113', 'HANDMADE', 'SELLING', '부하테스트 상품 113', 2500),
+       (next value for product_seq, '114', 'HANDMADE', 'SELLING', '부하테스트 상품 114', 3000),
+       (next value for product_seq, '115', 'HANDMADE', 'SELLING', '부하테스트 상품 115', 3500),
+       (next value for product_seq, '116', 'HANDMADE', 'SELLING', '부하테스트 상품 116', 4000),
+       (next value for product_seq, '117', 'HANDMADE', 'SELLING', '부하테스트 상품 117', 4500),
+       (next value for product_seq, '118', 'HANDMADE', 'SELLING', '부하테스트 상품 118', 5000),
+       (next value for product_seq, '119', 'HANDMADE', 'SELLING', '부하테스트 상품 119', 5500),
+       (next value for product_seq, '120', 'HANDMADE', 'SELLING', '부하테스트 상품 120', 1000),
+       (next value for product_seq, '121', 'BOTTLE', 'SELLING', '부하테스트 상품 121', 1500),
+       (next value for product_seq, '122', 'BOTTLE', 'SELLING', '부하테스트 상품 122', 2000),
+       (next value for product_seq, '123', 'BOTTLE', 'SELLING', '부하테스트 상품 123', 2500),
+       (next value for product_seq, '124', 'BOTTLE', 'SELLING', '부하테스트 상품 124', 3000),
+       (next value for product_seq, '125', 'BOTTLE', 'SELLING', '부하테스트 상품 125', 3500),
+       (next value for product_seq, '126', 'BOTTLE', 'SELLING', '부하테스트 상품 126', 4000),
+       (next value for product_seq, '127', 'BOTTLE', 'SELLING', '부하테스트 상품 127', 4500),
+       (next value for product_seq, '128', 'BOTTLE', 'SELLING', '부하테스트 상품 128', 5000),
+       (next value for product_seq, '129', 'BOTTLE', 'SELLING', '부하테스트 상품 129', 5500),
+       (next value for product_seq, '130', 'BOTTLE', 'SELLING', '부하테스트 상품 130', 1000),
+       (next value for product_seq, '131', 'BAKERY', 'SELLING', '부하테스트 상품 131', 1500),
+       (next value for product_seq, '132', 'BAKERY', 'SELLING', '부하테스트 상품 132', 2000),
+       (next value for product_seq, '133', 'BAKERY', 'SELLING', '부하테스트 상품 133', 2500),
+       (next value for product_seq, '134', 'BAKERY', 'SELLING', '부하테스트 상품 134', 3000),
+       (next value for product_seq, '135', 'BAKERY', 'SELLING', '부하테스트 상품 135', 3500),
+       (next value for product_seq, '136', 'BAKERY', 'SELLING', '부하테스트 상품 136', 4000),
+       (next value for product_seq, '137', 'BAKERY', 'SELLING', '부하테스트 상품 137', 4500),
+       (next value for product_seq, '138', 'BAKERY', 'SELLING', '부하테스트 상품 138', 5000),
+       (next value for product_seq, '139', 'BAKERY', 'SELLING', '부하테스트 상품 139', 5500),
+       (next value for product_seq, '140', 'BAKERY', 'SELLING', '부하테스트 상품 140', 1000);
+
+insert into stock(id, product_number, quantity)
+values (next value for stock_seq, '121', 100000000),
+       (next value for stock_seq, '122', 100000000),
+       (next value for stock_seq, '123', 100000000),
+       (next value for stock_seq, '124', 100000000),
+       (next value for stock_seq, '125', 100000000),
+       (next value for stock_seq, '126', 100000000),
+       (next value for stock_seq, '127', 100000000),
+       (next value for stock_seq, '128', 100000000),
+       (next value for stock_seq, '129', 100000000),
+       (next value for stock_seq, '130', 100000000),
+       (next value for stock_seq, '131', 100000000),
+       (next value for stock_seq, '132', 100000000),
+       (next value for stock_seq, '133', 100000000),
+       (next value for stock_seq, '134', 100000000),
+       (next value for stock_seq, '135', 100000000),
+       (next value for stock_seq, '136', 100000000),
+       (next value for stock_seq, '137', 100000000),
+       (next value for stock_seq, '138', 100000000),
+       (next value for stock_seq, '139', 100000000),
+       (next value for stock_seq, '140', 100000000);
@@ -0,0 +1,47 @@
+package sample.cafekiosk.schedule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BusinessHoursRegistryTest {
+
+    @Test
+    @DisplayName("매장별로 영업시간을 따로 확인하고, 영업시간을 바꾸면 다음 확인부터 바뀐 영업시간을 쓴다.")
+    void register() {
+        // given
+        BusinessHoursRegistry registry = new BusinessHoursRegistry();
+        registry.register("gangnam", BusinessHours.parse("MON-SUN 10:00-22:00"));
+        registry.register("seolleung", BusinessHours.parse("MON-FRI 07:00-20:00"));
+        LocalDateTime saturdayMorning = LocalDateTime.of(2023, 1, 21, 8, 0);
+
+        boolean gangnamBefore = registry.isOpen("gangnam", saturdayMorning);
+        boolean seolleungBefore = registry.isOpen("seolleung", saturdayMorning);
+
+        // when
+        registry.register("gangnam", BusinessHours.parse("SAT,SUN 07:00-22:00"));
+
+        // then
+        assertThat(gangnamBefore).isFalse();
+        assertThat(seolleungBefore).isFalse();
+        assertThat(registry.isOpen("gangnam", saturdayMorning)).isTrue();
+        assertThat(registry.isOpen("seolleung", saturdayMorning)).isFalse();
+    }
+
+    @Test
+    @DisplayName("영업시간이 등록되지 않은 매장은 확인할 수 없다.")
+    void isOpenWithUnknownStore() {
+        // given
+        BusinessHoursRegistry registry = new BusinessHoursRegistry();
+
+        // when // then
+        assertThatThrownBy(() -> registry.isOpen("unknown", LocalDateTime.of(2023, 1, 21, 8, 0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("영업시간이 등록되지 않은 매장입니다.");
+    }
+
+}
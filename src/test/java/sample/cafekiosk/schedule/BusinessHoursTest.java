@@ -0,0 +1,129 @@
+package sample.cafekiosk.schedule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BusinessHoursTest {
+
+    // 2023-01-16은 월요일이다.
+    @ParameterizedTest
+    @CsvSource({
+            "2023-01-16T09:59, false",
+            "2023-01-16T10:00, true",
+            "2023-01-16T21:59, true",
+            "2023-01-16T22:00, false",
+            "2023-01-21T10:30, false",
+            "2023-01-21T11:00, true",
+            "2023-01-21T15:00, false",
+            "2023-01-21T17:30, true",
+            "2023-01-22T20:59, true",
+            "2023-01-22T21:00, false"
+    })
+    @DisplayName("요일별 영업 구간 안에서만 영업 중이고, 브레이크 타임처럼 하루에 여러 구간을 둘 수 있다.")
+    void isOpen(LocalDateTime dateTime, boolean expected) {
+        // given
+        BusinessHours businessHours = BusinessHours.parse("MON-FRI 10:00-22:00; SAT,SUN 11:00-15:00,17:00-21:00");
+
+        // when
+        boolean result = businessHours.isOpen(dateTime);
+
+        // then
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("종료 시각이 시작 시각보다 이르면 다음날까지 이어지고, 일요일 밤 구간은 월요일 새벽으로 이어진다.")
+    void isOpenOvernight() {
+        // given
+        BusinessHours businessHours = BusinessHours.builder()
+                .open(DayOfWeek.SUNDAY, LocalTime.of(22, 0), LocalTime.of(2, 0))
+                .build();
+
+        // when // then
+        assertThat(businessHours.isOpen(LocalDateTime.of(2023, 1, 22, 23, 30))).isTrue();
+        assertThat(businessHours.isOpen(LocalDateTime.of(2023, 1, 23, 1, 59))).isTrue();
+        assertThat(businessHours.isOpen(LocalDateTime.of(2023, 1, 23, 2, 0))).isFalse();
+        assertThat(businessHours.isOpen(LocalDateTime.of(2023, 1, 22, 1, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("휴무일에는 영업시간이어도 영업하지 않는다.")
+    void isOpenOnHoliday() {
+        // given
+        BusinessHours businessHours = BusinessHours.parse("MON-SUN 00:00-24:00", List.of(LocalDate.of(2023, 1, 23)));
+
+        // when // then
+        assertThat(businessHours.isOpen(LocalDateTime.of(2023, 1, 22, 23, 59))).isTrue();
+        assertThat(businessHours.isOpen(LocalDateTime.of(2023, 1, 23, 12, 0))).isFalse();
+        assertThat(businessHours.isOpen(LocalDateTime.of(2023, 1, 24, 0, 0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("자정을 넘긴 구간은 시작한 날의 영업이므로, 다음날이 휴무일이어도 새벽까지 영업한다.")
+    void isOpenOvernightBeforeHoliday() {
+        // given
+        // 2023-01-20은 금요일, 2023-01-21은 토요일이다.
+        BusinessHours businessHours = BusinessHours.builder()
+                .open(DayOfWeek.FRIDAY, LocalTime.of(22, 0), LocalTime.of(2, 0))
+                .holiday(LocalDate.of(2023, 1, 21))
+                .build();
+
+        // when // then
+        assertThat(businessHours.isOpen(LocalDateTime.of(2023, 1, 20, 23, 0))).isTrue();
+        assertThat(businessHours.isOpen(LocalDateTime.of(2023, 1, 21, 1, 0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("자정을 넘긴 구간은 시작한 날이 휴무일이면 다음날 새벽에도 영업하지 않는다.")
+    void isOpenOvernightOnHoliday() {
+        // given
+        BusinessHours businessHours = BusinessHours.builder()
+                .open(DayOfWeek.FRIDAY, LocalTime.of(22, 0), LocalTime.of(2, 0))
+                .open(DayOfWeek.SATURDAY, LocalTime.of(10, 0), LocalTime.of(20, 0))
+                .holiday(LocalDate.of(2023, 1, 20))
+                .build();
+
+        // when // then
+        assertThat(businessHours.isOpen(LocalDateTime.of(2023, 1, 20, 23, 0))).isFalse();
+        assertThat(businessHours.isOpen(LocalDateTime.of(2023, 1, 21, 1, 0))).isFalse();
+        assertThat(businessHours.isOpen(LocalDateTime.of(2023, 1, 21, 10, 0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("영업시간을 만든 뒤 빌더에 구간을 더해도 이미 만든 영업시간은 바뀌지 않는다.")
+    void build() {
+        // given
+        BusinessHours.Builder builder = BusinessHours.builder()
+                .open(DayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(12, 0));
+        BusinessHours businessHours = builder.build();
+
+        // when
+        builder.open(DayOfWeek.MONDAY, LocalTime.of(12, 0), LocalTime.of(14, 0));
+
+        // then
+        assertThat(businessHours.isOpen(LocalDateTime.of(2023, 1, 16, 13, 0))).isFalse();
+        assertThat(builder.build().isOpen(LocalDateTime.of(2023, 1, 16, 13, 0))).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MON 10:00", "XYZ 10:00-22:00", "MON 10:00~22:00", "MON 10:00-10:00"})
+    @DisplayName("형식이 잘못된 영업시간은 읽을 수 없다.")
+    void parseInvalidSchedule(String weeklySchedule) {
+        // when // then
+        assertThatThrownBy(() -> BusinessHours.parse(weeklySchedule))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
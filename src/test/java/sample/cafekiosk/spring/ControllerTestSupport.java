@@ -6,12 +6,16 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 import sample.cafekiosk.spring.api.controller.order.OrderController;
+import sample.cafekiosk.spring.api.controller.order.OrderExportController;
 import sample.cafekiosk.spring.api.controller.product.ProductController;
+import sample.cafekiosk.spring.api.service.order.OrderCreateExecutor;
+import sample.cafekiosk.spring.api.service.order.OrderExportService;
 import sample.cafekiosk.spring.api.service.order.OrderService;
 import sample.cafekiosk.spring.api.service.product.ProductService;
 
 @WebMvcTest(controllers = {
         OrderController.class,
+        OrderExportController.class,
         ProductController.class
 })
 public abstract class ControllerTestSupport {
@@ -22,10 +26,16 @@ public abstract class ControllerTestSupport {
     @MockBean
     protected OrderService orderService;
 
+    @MockBean
+    protected OrderCreateExecutor orderCreateExecutor;
+
     @Autowired
     protected ObjectMapper objectMapper;
 
     @MockBean
     protected ProductService productService;
 
+    @MockBean
+    protected OrderExportService orderExportService;
+
 }
@@ -2,15 +2,30 @@ package sample.cafekiosk.spring.api.controller.order;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MvcResult;
 import sample.cafekiosk.spring.ControllerTestSupport;
+import sample.cafekiosk.spring.api.controller.order.request.OrderBatchCreateRequest;
 import sample.cafekiosk.spring.api.controller.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.controller.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.order.OrderQueueFullException;
 
+import javax.servlet.AsyncListener;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class OrderControllerTest extends ControllerTestSupport {
@@ -23,12 +38,20 @@ class OrderControllerTest extends ControllerTestSupport {
         OrderCreateRequest request = OrderCreateRequest.builder()
                 .productNumbers(List.of("001"))
                 .build();
-        // when // then
-        mockMvc.perform(
+        given(orderCreateExecutor.submit(any(), any(LocalDateTime.class)))
+                .willReturn(CompletableFuture.completedFuture(OrderResponse.builder().id(1L).build()));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(
                         post("/api/v1/orders/new")
                                 .content(objectMapper.writeValueAsString(request))
                                 .contentType(APPLICATION_JSON)
                 )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.code").value("200"))
@@ -36,6 +59,107 @@ class OrderControllerTest extends ControllerTestSupport {
                 .andExpect(jsonPath("$.message").value("OK"));
     }
 
+    @Test
+    @DisplayName("주문 등록 대기열이 가득 차 있으면 503과 Retry-After로 응답한다.")
+    void createOrderWhenQueueIsFull() throws Exception {
+        // given
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNumbers(List.of("001"))
+                .build();
+        given(orderCreateExecutor.submit(any(), any(LocalDateTime.class)))
+                .willThrow(new OrderQueueFullException(1));
+
+        // when // then
+        mockMvc.perform(
+                        post("/api/v1/orders/new")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.code").value("503"))
+                .andExpect(jsonPath("$.status").value("SERVICE_UNAVAILABLE"))
+                .andExpect(jsonPath("$.message").value("주문이 많아 잠시 후 다시 시도해 주세요."))
+                .andExpect(jsonPath("$.data").isEmpty());
+    }
+
+    @Test
+    @DisplayName("주문이 대기열에 있는 채로 응답 시간이 지나면 주문을 취소하고 503과 Retry-After로 응답한다.")
+    void createOrderWhenTimeoutInQueue() throws Exception {
+        // given
+        CompletableFuture<OrderResponse> queued = new CompletableFuture<>();
+        given(orderCreateExecutor.submit(any(), any(LocalDateTime.class))).willReturn(queued);
+        given(orderCreateExecutor.getTimeoutMillis()).willReturn(1000L);
+        given(orderCreateExecutor.getRetryAfterSeconds()).willReturn(1);
+        MvcResult mvcResult = performCreateOrder();
+
+        // when
+        timeout(mvcResult);
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.code").value("503"))
+                .andExpect(jsonPath("$.message").value("주문이 많아 잠시 후 다시 시도해 주세요."));
+        assertThat(queued).isCancelled();
+    }
+
+    @Test
+    @DisplayName("주문이 이미 실행 중인 채로 응답 시간이 지나면 등록됐을 수 있으므로 Retry-After 없이 504로 응답한다.")
+    void createOrderWhenTimeoutWhileRunning() throws Exception {
+        // given
+        CompletableFuture<OrderResponse> running = new CompletableFuture<>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                return false;
+            }
+        };
+        given(orderCreateExecutor.submit(any(), any(LocalDateTime.class))).willReturn(running);
+        given(orderCreateExecutor.getTimeoutMillis()).willReturn(1000L);
+        MvcResult mvcResult = performCreateOrder();
+
+        // when
+        timeout(mvcResult);
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(header().doesNotExist("Retry-After"))
+                .andExpect(jsonPath("$.code").value("504"))
+                .andExpect(jsonPath("$.message").value("주문 처리가 지연되고 있습니다. 주문 내역을 확인한 뒤 다시 주문해 주세요."));
+    }
+
+    @Test
+    @DisplayName("주문 등록 중 잘못된 요청으로 실패하면 400으로 응답한다.")
+    void createOrderWhenServiceFails() throws Exception {
+        // given
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNumbers(List.of("999"))
+                .build();
+        given(orderCreateExecutor.submit(any(), any(LocalDateTime.class)))
+                .willReturn(CompletableFuture.failedFuture(new IllegalArgumentException("존재하지 않는 상품이 있습니다.")));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(
+                        post("/api/v1/orders/new")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(APPLICATION_JSON)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("존재하지 않는 상품이 있습니다."));
+    }
+
     @Test
     @DisplayName("신규 상품을 등록할 때 상품번호는 1개 이상이어야 한다.")
     void createOrderWithEmptyProductNumbers() throws Exception {
@@ -57,4 +181,141 @@ class OrderControllerTest extends ControllerTestSupport {
                 .andExpect(jsonPath("$.data").isEmpty());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("여러 주문을 한 번에 등록한다.")
+    void createOrders() throws Exception {
+        // given
+        OrderBatchCreateRequest request = OrderBatchCreateRequest.builder()
+                .orders(List.of(
+                        OrderCreateRequest.builder().productNumbers(List.of("001")).build(),
+                        OrderCreateRequest.builder().productNumbers(List.of("001", "002")).build()
+                ))
+                .build();
+        // when // then
+        mockMvc.perform(
+                        post("/api/v1/orders/batch")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.status").value("OK"))
+                .andExpect(jsonPath("$.message").value("OK"));
+    }
+
+    @Test
+    @DisplayName("여러 주문을 한 번에 등록할 때 주문은 1건 이상이어야 한다.")
+    void createOrdersWithEmptyOrders() throws Exception {
+        // given
+        OrderBatchCreateRequest request = OrderBatchCreateRequest.builder()
+                .orders(List.of())
+                .build();
+        // when // then
+        mockMvc.perform(
+                        post("/api/v1/orders/batch")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.status").value("BAD_REQUEST"))
+                .andExpect(jsonPath("$.message").value("주문 리스트는 필수입니다."))
+                .andExpect(jsonPath("$.data").isEmpty());
+    }
+
+    @Test
+    @DisplayName("여러 주문을 한 번에 등록할 때 각 주문의 상품번호는 1개 이상이어야 한다.")
+    void createOrdersWithEmptyProductNumbers() throws Exception {
+        // given
+        OrderBatchCreateRequest request = OrderBatchCreateRequest.builder()
+                .orders(List.of(
+                        OrderCreateRequest.builder().productNumbers(List.of("001")).build(),
+                        OrderCreateRequest.builder().productNumbers(List.of()).build()
+                ))
+                .build();
+        // when // then
+        mockMvc.perform(
+                        post("/api/v1/orders/batch")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.status").value("BAD_REQUEST"))
+                .andExpect(jsonPath("$.message").value("상품 번호 리스트는 필수입니다."))
+                .andExpect(jsonPath("$.data").isEmpty());
+    }
+
+    @Test
+    @DisplayName("주문을 조회한다.")
+    void getOrder() throws Exception {
+        // when // then
+        mockMvc.perform(
+                        get("/api/v1/orders/1")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.status").value("OK"))
+                .andExpect(jsonPath("$.message").value("OK"));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 주문을 조회하면 400과 사유를 응답한다.")
+    void getOrderWhenOrderIsNotExist() throws Exception {
+        // given
+        given(orderService.getOrder(1L)).willThrow(new IllegalArgumentException("존재하지 않는 주문입니다."));
+
+        // when // then
+        mockMvc.perform(
+                        get("/api/v1/orders/1")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.status").value("BAD_REQUEST"))
+                .andExpect(jsonPath("$.message").value("존재하지 않는 주문입니다."))
+                .andExpect(jsonPath("$.data").isEmpty());
+    }
+
+    @Test
+    @DisplayName("주문 목록을 주문상태와 커서로 조회한다.")
+    void getOrders() throws Exception {
+        // when // then
+        mockMvc.perform(
+                        get("/api/v1/orders")
+                                .queryParam("status", "PAYMENT_COMPLETED")
+                                .queryParam("cursor", "MjAyMy0xMS0wNlQxMDowMF8xNQ")
+                                .queryParam("size", "20")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.status").value("OK"))
+                .andExpect(jsonPath("$.message").value("OK"));
+    }
+
+    private MvcResult performCreateOrder() throws Exception {
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNumbers(List.of("001"))
+                .build();
+        return mockMvc.perform(
+                        post("/api/v1/orders/new")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(APPLICATION_JSON)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private void timeout(MvcResult mvcResult) throws Exception {
+        MockAsyncContext asyncContext = (MockAsyncContext) mvcResult.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(null);
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package sample.cafekiosk.spring.api.controller.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MvcResult;
+import sample.cafekiosk.spring.ControllerTestSupport;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.BDDMockito.willThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class OrderExportControllerTest extends ControllerTestSupport {
+
+    @Test
+    @DisplayName("기간 내 주문을 NDJSON 파일로 내려준다.")
+    void exportOrders() throws Exception {
+        // when
+        MvcResult mvcResult = mockMvc.perform(
+                        get("/api/v1/orders/export")
+                                .queryParam("startDateTime", "2023-11-06T00:00:00")
+                                .queryParam("endDateTime", "2023-11-07T00:00:00")
+                                .queryParam("format", "NDJSON")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders-2023-11-06-2023-11-07.ndjson\""));
+    }
+
+    @Test
+    @DisplayName("시작 시간이 종료 시간보다 이전이 아니면 내보내기를 시작하지 않고 400으로 응답한다.")
+    void exportOrdersWithInvalidPeriod() throws Exception {
+        // given
+        LocalDateTime dateTime = LocalDateTime.of(2023, 11, 6, 0, 0);
+        willThrow(new IllegalArgumentException("시작 시간은 종료 시간보다 이전이어야 합니다."))
+                .given(orderExportService).checkPeriod(dateTime, dateTime);
+
+        // when // then
+        mockMvc.perform(
+                        get("/api/v1/orders/export")
+                                .queryParam("startDateTime", "2023-11-06T00:00:00")
+                                .queryParam("endDateTime", "2023-11-06T00:00:00")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("시작 시간은 종료 시간보다 이전이어야 합니다."));
+    }
+
+}
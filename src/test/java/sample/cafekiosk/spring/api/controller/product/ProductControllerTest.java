@@ -4,19 +4,24 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import sample.cafekiosk.spring.ControllerTestSupport;
 import sample.cafekiosk.spring.api.controller.product.dto.request.ProductCreateRequest;
+import sample.cafekiosk.spring.api.service.product.response.ProductCatalogSnapshot;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
 import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
 import sample.cafekiosk.spring.domain.product.ProductType;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 class ProductControllerTest extends ControllerTestSupport {
 
@@ -140,8 +145,8 @@ class ProductControllerTest extends ControllerTestSupport {
     @DisplayName("판매 상품을 조회한다.")
     void getSellingProducts() throws Exception {
         // given
-        List<ProductResponse> result = List.of();
-        when(productService.getSellingProducts()).thenReturn(result);
+        ProductCatalogSnapshot catalog = ProductCatalogSnapshot.of(1L, List.of(), objectMapper);
+        when(productService.getSellingProductCatalog()).thenReturn(catalog);
 
         // when // then
         mockMvc.perform(
@@ -149,10 +154,108 @@ class ProductControllerTest extends ControllerTestSupport {
                 )
                 .andDo(print())
                 .andExpect(status().isOk())
+                .andExpect(header().string(ETAG, catalog.getETag()))
                 .andExpect(jsonPath("$.code").value("200"))
                 .andExpect(jsonPath("$.status").value("OK"))
                 .andExpect(jsonPath("$.message").value("OK"))
                 .andExpect(jsonPath("$.data").isArray());
     }
 
+    @Test
+    @DisplayName("판매 상품 목록이 바뀌지 않았으면 본문 없이 304를 응답한다.")
+    void getSellingProductsNotModified() throws Exception {
+        // given
+        ProductCatalogSnapshot catalog = ProductCatalogSnapshot.of(1L, List.of(createProductResponse()), objectMapper);
+        when(productService.getSellingProductCatalog()).thenReturn(catalog);
+
+        // when // then
+        mockMvc.perform(
+                        get("/api/v1/products/selling")
+                                .header(IF_NONE_MATCH, catalog.getETag())
+                )
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, catalog.getETag()))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("gzip을 받을 수 있는 요청에는 미리 압축해 둔 본문을 응답한다.")
+    void getSellingProductsWithGzip() throws Exception {
+        // given
+        ProductCatalogSnapshot catalog = ProductCatalogSnapshot.of(1L, List.of(createProductResponse()), objectMapper);
+        when(productService.getSellingProductCatalog()).thenReturn(catalog);
+
+        // when
+        byte[] responseBody = mockMvc.perform(
+                        get("/api/v1/products/selling")
+                                .header(ACCEPT_ENCODING, "gzip, deflate")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(ETAG, catalog.getGzipETag()))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // then
+        assertThat(gunzip(responseBody)).isEqualTo(catalog.getBody());
+    }
+
+    @Test
+    @DisplayName("gzip 본문은 원본과 다른 ETag를 쓰므로, 원본의 ETag로는 gzip 본문을 304로 재사용하지 않는다.")
+    void getSellingProductsWithGzipAndIdentityETag() throws Exception {
+        // given
+        ProductCatalogSnapshot catalog = ProductCatalogSnapshot.of(1L, List.of(createProductResponse()), objectMapper);
+        when(productService.getSellingProductCatalog()).thenReturn(catalog);
+
+        // when // then
+        mockMvc.perform(
+                        get("/api/v1/products/selling")
+                                .header(ACCEPT_ENCODING, "gzip")
+                                .header(IF_NONE_MATCH, catalog.getETag())
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(ETAG, catalog.getGzipETag()));
+    }
+
+    @Test
+    @DisplayName("gzip 본문의 ETag로 다시 요청하면 본문 없이 304를 응답한다.")
+    void getSellingProductsWithGzipNotModified() throws Exception {
+        // given
+        ProductCatalogSnapshot catalog = ProductCatalogSnapshot.of(1L, List.of(createProductResponse()), objectMapper);
+        when(productService.getSellingProductCatalog()).thenReturn(catalog);
+
+        // when // then
+        mockMvc.perform(
+                        get("/api/v1/products/selling")
+                                .header(ACCEPT_ENCODING, "gzip")
+                                .header(IF_NONE_MATCH, catalog.getGzipETag())
+                )
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, catalog.getGzipETag()))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    private ProductResponse createProductResponse() {
+        return ProductResponse.builder()
+                .id(1L)
+                .productNumber("001")
+                .type(ProductType.HANDMADE)
+                .sellingStatus(ProductSellingStatus.SELLING)
+                .name("아메리카노")
+                .price(4000)
+                .build();
+    }
+
+    private byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return inputStream.readAllBytes();
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,207 @@
+package sample.cafekiosk.spring.api.service.mail;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.client.mail.FakeMailSendClient;
+import sample.cafekiosk.spring.domain.history.mail.MailSendHistory;
+import sample.cafekiosk.spring.domain.history.mail.MailSendHistoryRepository;
+import sample.cafekiosk.spring.domain.mail.MailOutbox;
+import sample.cafekiosk.spring.domain.mail.MailOutboxRepository;
+import sample.cafekiosk.spring.domain.mail.MailOutboxStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MailDeliveryWorkerTest extends IntegrationTestSupport {
+
+    @Autowired
+    private MailOutboxService mailOutboxService;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private MailSendHistoryRepository mailSendHistoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private FakeMailSendClient fakeMailSendClient;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MailSendHistoryWriter mailSendHistoryWriter;
+
+    private MailDeliveryWorker mailDeliveryWorker;
+
+    @BeforeEach
+    void setUp() {
+        fakeMailSendClient = new FakeMailSendClient();
+        meterRegistry = new SimpleMeterRegistry();
+        mailSendHistoryWriter = new MailSendHistoryWriter(mailSendHistoryRepository, mailOutboxRepository, transactionTemplate, 100, 1000);
+        mailDeliveryWorker = new MailDeliveryWorker(fakeMailSendClient, mailOutboxRepository, mailSendHistoryWriter,
+                transactionTemplate, meterRegistry, 3, 1000, 60_000, 300_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailOutboxRepository.deleteAllInBatch();
+        mailSendHistoryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("outbox에 넣은 메일을 전송하면 전송 이력을 남기고 outbox에서 지운다.")
+    void deliverDue() {
+        // given
+        mailOutboxService.enqueueMail("from@cafekiosk.com", "to@cafekiosk.com", "제목", "내용");
+
+        // when
+        int deliveredCount = mailDeliveryWorker.deliverDue(10);
+        mailSendHistoryWriter.flush();
+
+        // then
+        assertThat(deliveredCount).isEqualTo(1);
+        assertThat(fakeMailSendClient.getSentMails()).hasSize(1)
+                .extracting("toEmail", "subject")
+                .containsExactly(Tuple.tuple("to@cafekiosk.com", "제목"));
+        assertThat(mailSendHistoryRepository.findAll()).hasSize(1)
+                .extracting("content")
+                .containsExactly("내용");
+        assertThat(mailOutboxRepository.findAll()).isEmpty();
+        assertThat(meterRegistry.get("mail.delivery.latency").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전송 이력 버퍼가 가득 차 있으면 outbox를 점유하지 않고 메일은 outbox에서 기다린다.")
+    void deliverDueWhenHistoryBufferFull() {
+        // given
+        MailSendHistoryWriter fullWriter = new MailSendHistoryWriter(mailSendHistoryRepository, mailOutboxRepository, transactionTemplate, 100, 1);
+        fullWriter.write(MailSendHistory.builder()
+                .fromEmail("from@cafekiosk.com")
+                .toEmail("to@cafekiosk.com")
+                .subject("제목")
+                .content("내용")
+                .build());
+        MailDeliveryWorker worker = new MailDeliveryWorker(fakeMailSendClient, mailOutboxRepository, fullWriter,
+                transactionTemplate, meterRegistry, 3, 1000, 60_000, 300_000);
+        mailOutboxService.enqueueMail("from@cafekiosk.com", "to@cafekiosk.com", "제목", "내용");
+
+        // when
+        int deliveredCount = worker.deliverDue(10);
+
+        // then
+        assertThat(deliveredCount).isZero();
+        assertThat(fakeMailSendClient.getSentMails()).isEmpty();
+        assertThat(mailOutboxRepository.findAll()).hasSize(1)
+                .extracting("status")
+                .containsExactly(MailOutboxStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("전송에 실패하면 지수 백오프만큼 뒤로 미뤄서 다시 시도한다.")
+    void deliverDueWithFailure() {
+        // given
+        Long outboxId = mailOutboxService.enqueueMail("from@cafekiosk.com", "to@cafekiosk.com", "제목", "내용");
+        fakeMailSendClient.failNext(1);
+        LocalDateTime beforeDelivery = LocalDateTime.now();
+
+        // when
+        mailDeliveryWorker.deliverDue(10);
+        int retriedImmediately = mailDeliveryWorker.deliverDue(10);
+        mailSendHistoryWriter.flush();
+
+        // then
+        MailOutbox outbox = mailOutboxRepository.findById(outboxId).orElseThrow();
+        assertThat(retriedImmediately).isZero();
+        assertThat(outbox.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+        assertThat(outbox.getAttemptCount()).isEqualTo(1);
+        assertThat(outbox.getLastError()).contains("메일 서버 응답 없음");
+        assertThat(outbox.getNextAttemptDateTime()).isAfterOrEqualTo(beforeDelivery.plusSeconds(1));
+        assertThat(mailSendHistoryRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 실패하면 더 이상 시도하지 않고 실패 상태로 남긴다.")
+    void deliverWithExhaustedAttempts() {
+        // given
+        MailDeliveryWorker noBackoffWorker = new MailDeliveryWorker(fakeMailSendClient, mailOutboxRepository, mailSendHistoryWriter,
+                transactionTemplate, meterRegistry, 3, 0, 0, 300_000);
+        Long outboxId = mailOutboxService.enqueueMail("from@cafekiosk.com", "to@cafekiosk.com", "제목", "내용");
+        fakeMailSendClient.failNext(3);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            noBackoffWorker.deliverDue(10);
+        }
+        int deliveredAfterFailure = noBackoffWorker.deliverDue(10);
+
+        // then
+        MailOutbox outbox = mailOutboxRepository.findById(outboxId).orElseThrow();
+        assertThat(deliveredAfterFailure).isZero();
+        assertThat(outbox.getStatus()).isEqualTo(MailOutboxStatus.FAILED);
+        assertThat(outbox.getAttemptCount()).isEqualTo(3);
+        assertThat(fakeMailSendClient.getSentMails()).isEmpty();
+        assertThat(meterRegistry.get("mail.delivery.attempts").tag("result", "retry").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("mail.delivery.attempts").tag("result", "failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("점유가 끝나 다른 worker가 다시 점유한 메일은 보내지 않고, 다시 점유한 worker가 보낸다.")
+    void deliverAfterLeaseExpired() {
+        // given
+        MailDeliveryWorker expiredWorker = new MailDeliveryWorker(fakeMailSendClient, mailOutboxRepository, mailSendHistoryWriter,
+                transactionTemplate, meterRegistry, 3, 1000, 60_000, 0);
+        Long outboxId = mailOutboxService.enqueueMail("from@cafekiosk.com", "to@cafekiosk.com", "제목", "내용");
+        MailOutboxClaim expiredClaim = expiredWorker.claimDue(10);
+        MailOutboxClaim currentClaim = mailDeliveryWorker.claimDue(10);
+
+        // when
+        expiredWorker.deliver(outboxId, expiredClaim.getLeaseToken());
+        int sentByExpiredWorker = fakeMailSendClient.getSentMails().size();
+        mailDeliveryWorker.deliver(outboxId, currentClaim.getLeaseToken());
+        mailSendHistoryWriter.flush();
+
+        // then
+        assertThat(currentClaim.getOutboxIds()).containsExactly(outboxId);
+        assertThat(sentByExpiredWorker).isZero();
+        assertThat(fakeMailSendClient.getSentMails()).hasSize(1);
+        assertThat(mailSendHistoryRepository.findAll()).hasSize(1);
+        assertThat(mailOutboxRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("점유한 메일이 그사이 지워졌으면 아무것도 하지 않는다.")
+    void deliverDeletedOutbox() {
+        // given
+        Long outboxId = mailOutboxService.enqueueMail("from@cafekiosk.com", "to@cafekiosk.com", "제목", "내용");
+        MailOutboxClaim claim = mailDeliveryWorker.claimDue(10);
+        mailOutboxRepository.deleteAllInBatch();
+
+        // when
+        mailDeliveryWorker.deliver(outboxId, claim.getLeaseToken());
+
+        // then
+        assertThat(fakeMailSendClient.getSentMails()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 실패할 때마다 두 배로 늘어나고 최대 대기 시간을 넘지 않는다.")
+    void backoff() {
+        // when // then
+        assertThat(mailDeliveryWorker.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(mailDeliveryWorker.backoff(2)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(mailDeliveryWorker.backoff(5)).isEqualTo(Duration.ofSeconds(16));
+        assertThat(mailDeliveryWorker.backoff(10)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(mailDeliveryWorker.backoff(100)).isEqualTo(Duration.ofSeconds(60));
+    }
+
+}
@@ -0,0 +1,180 @@
+package sample.cafekiosk.spring.api.service.mail;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.history.mail.MailSendHistory;
+import sample.cafekiosk.spring.domain.history.mail.MailSendHistoryRepository;
+import sample.cafekiosk.spring.domain.mail.MailOutbox;
+import sample.cafekiosk.spring.domain.mail.MailOutboxRepository;
+import sample.cafekiosk.spring.domain.mail.MailOutboxStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class MailSendHistoryWriterTest extends IntegrationTestSupport {
+
+    @Autowired
+    private MailSendHistoryRepository mailSendHistoryRepository;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private MailSendHistoryWriter mailSendHistoryWriter;
+
+    @BeforeEach
+    void setUp() {
+        mailSendHistoryWriter = new MailSendHistoryWriter(mailSendHistoryRepository, mailOutboxRepository, transactionTemplate, 3, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailSendHistoryRepository.deleteAllInBatch();
+        mailOutboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("전송 이력은 배치 크기가 찰 때까지 메모리에 모아 둔다.")
+    void writeBelowBatchSize() {
+        // when
+        mailSendHistoryWriter.write(createHistory("1"));
+        mailSendHistoryWriter.write(createHistory("2"));
+
+        // then
+        assertThat(mailSendHistoryWriter.getBufferedCount()).isEqualTo(2);
+        assertThat(mailSendHistoryRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("배치 크기만큼 모이면 한 번에 저장한다.")
+    void writeUpToBatchSize() {
+        // when
+        mailSendHistoryWriter.write(createHistory("1"));
+        mailSendHistoryWriter.write(createHistory("2"));
+        mailSendHistoryWriter.write(createHistory("3"));
+        mailSendHistoryWriter.write(createHistory("4"));
+
+        // then
+        assertThat(mailSendHistoryWriter.getBufferedCount()).isEqualTo(1);
+        assertThat(mailSendHistoryRepository.findAll()).hasSize(3)
+                .extracting("content")
+                .containsExactlyInAnyOrder("1", "2", "3");
+    }
+
+    @Test
+    @DisplayName("종료될 때 버퍼에 남은 이력을 모두 저장한다.")
+    void flushOnShutdown() {
+        // given
+        for (int i = 1; i <= 7; i++) {
+            mailSendHistoryWriter.write(createHistory(String.valueOf(i)));
+        }
+
+        // when
+        mailSendHistoryWriter.flushOnShutdown();
+
+        // then
+        assertThat(mailSendHistoryWriter.getBufferedCount()).isZero();
+        assertThat(mailSendHistoryRepository.findAll()).hasSize(7);
+    }
+
+    @Test
+    @DisplayName("이력을 저장할 때 전송한 outbox 행을 같은 트랜잭션에서 지운다. 저장 전까지는 outbox 행이 남아 있다.")
+    void writeWithOutbox() {
+        // given
+        MailOutbox outbox = createClaimedOutbox("token-1");
+        mailSendHistoryWriter.write(outbox.toHistory(), outbox.getId(), "token-1");
+        assertThat(mailOutboxRepository.findAll()).hasSize(1);
+
+        // when
+        mailSendHistoryWriter.flush();
+
+        // then
+        assertThat(mailSendHistoryRepository.findAll()).hasSize(1)
+                .extracting("content")
+                .containsExactly("1");
+        assertThat(mailOutboxRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("그사이 다른 worker가 다시 점유한 outbox 행은 이력을 저장해도 지우지 않는다.")
+    void writeWithReclaimedOutbox() {
+        // given
+        MailOutbox outbox = createClaimedOutbox("token-2");
+        mailSendHistoryWriter.write(outbox.toHistory(), outbox.getId(), "token-1");
+
+        // when
+        mailSendHistoryWriter.flush();
+
+        // then
+        assertThat(mailSendHistoryRepository.findAll()).hasSize(1);
+        assertThat(mailOutboxRepository.findAll()).hasSize(1)
+                .extracting("leaseToken")
+                .containsExactly("token-2");
+    }
+
+    @Test
+    @DisplayName("배치 크기가 차서 저장하다 실패해도 메일을 보낸 쪽으로 예외를 던지지 않고, 이력은 버퍼에 남겨 다시 저장한다.")
+    void writeWhenFlushFails() {
+        // given
+        MailSendHistoryRepository failingRepository = mock(MailSendHistoryRepository.class);
+        given(failingRepository.saveAll(anyList())).willThrow(new IllegalStateException("DB 연결 실패"));
+        MailSendHistoryWriter writer = new MailSendHistoryWriter(failingRepository, mailOutboxRepository, transactionTemplate, 3, 100);
+        writer.write(createHistory("1"));
+        writer.write(createHistory("2"));
+
+        // when // then
+        assertThatCode(() -> writer.write(createHistory("3")))
+                .doesNotThrowAnyException();
+        assertThat(writer.getBufferedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("저장에 계속 실패해서 버퍼가 가득 차면 더 들어오는 이력은 버퍼에 넣지 않는다.")
+    void writeWhenBufferFull() {
+        // given
+        MailSendHistoryRepository failingRepository = mock(MailSendHistoryRepository.class);
+        given(failingRepository.saveAll(anyList())).willThrow(new IllegalStateException("DB 연결 실패"));
+        MailSendHistoryWriter writer = new MailSendHistoryWriter(failingRepository, mailOutboxRepository, transactionTemplate, 3, 4);
+        for (int i = 1; i <= 4; i++) {
+            writer.write(createHistory(String.valueOf(i)));
+        }
+
+        // when
+        writer.write(createHistory("5"));
+
+        // then
+        assertThat(writer.isFull()).isTrue();
+        assertThat(writer.getBufferedCount()).isEqualTo(4);
+    }
+
+    private MailOutbox createClaimedOutbox(String leaseToken) {
+        LocalDateTime now = LocalDateTime.now();
+        MailOutbox outbox = mailOutboxRepository.save(MailOutbox.create("from@cafekiosk.com", "to@cafekiosk.com", "제목", "1", now));
+        transactionTemplate.executeWithoutResult(status -> mailOutboxRepository.claim(outbox.getId(),
+                List.of(MailOutboxStatus.PENDING), now, MailOutboxStatus.SENDING, now.plusMinutes(5), leaseToken));
+        return outbox;
+    }
+
+    private MailSendHistory createHistory(String content) {
+        return MailSendHistory.builder()
+                .fromEmail("from@cafekiosk.com")
+                .toEmail("to@cafekiosk.com")
+                .subject("제목")
+                .content(content)
+                .build();
+    }
+
+}
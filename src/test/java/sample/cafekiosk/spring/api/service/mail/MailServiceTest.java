@@ -9,7 +9,6 @@ import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import sample.cafekiosk.spring.client.mail.MailSendClient;
 import sample.cafekiosk.spring.domain.history.mail.MailSendHistory;
-import sample.cafekiosk.spring.domain.history.mail.MailSendHistoryRepository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -21,7 +20,7 @@ class MailServiceTest {
     @Mock
     private MailSendClient mailSendClient;
     @Mock
-    private MailSendHistoryRepository mailSendHistoryRepository;
+    private MailSendHistoryWriter mailSendHistoryWriter;
     @InjectMocks
     private MailService mailService;
     @Spy
@@ -40,7 +39,7 @@ class MailServiceTest {
 
         // then
         assertThat(result).isTrue();
-        verify(mailSendHistoryRepository, times(1)).save(any(MailSendHistory.class));
+        verify(mailSendHistoryWriter, times(1)).write(any(MailSendHistory.class));
     }
 
     @Test
@@ -48,8 +47,8 @@ class MailServiceTest {
     void sendMailMockObject() {
         // given
         MailSendClient mailSendClient = mock(MailSendClient.class);
-        MailSendHistoryRepository mailSendHistoryRepository = mock(MailSendHistoryRepository.class);
-        MailService mailService = new MailService(mailSendClient, mailSendHistoryRepository);
+        MailSendHistoryWriter mailSendHistoryWriter = mock(MailSendHistoryWriter.class);
+        MailService mailService = new MailService(mailSendClient, mailSendHistoryWriter);
 
         when(mailSendClient.sendEmail(anyString(), anyString(), anyString(), anyString()))
                 .thenReturn(true);
@@ -59,7 +58,7 @@ class MailServiceTest {
 
         // then
         assertThat(result).isTrue();
-        verify(mailSendHistoryRepository, times(1)).save(any(MailSendHistory.class));
+        verify(mailSendHistoryWriter, times(1)).write(any(MailSendHistory.class));
     }
 
     @Test
@@ -77,7 +76,7 @@ class MailServiceTest {
 
         // then
         assertThat(result).isTrue();
-        verify(mailSendHistoryRepository, times(1)).save(any(MailSendHistory.class));
+        verify(mailSendHistoryWriter, times(1)).write(any(MailSendHistory.class));
     }
 
     @Test
@@ -94,7 +93,7 @@ class MailServiceTest {
 
         // then
         assertThat(result).isTrue();
-        verify(mailSendHistoryRepository, times(1)).save(any(MailSendHistory.class));
+        verify(mailSendHistoryWriter, times(1)).write(any(MailSendHistory.class));
 
     }
     
@@ -0,0 +1,99 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+
+/**
+ * 주문 한 건을 만들 때 힙에 할당하는 바이트 수가 예산을 넘지 않는지 확인한다.
+ * JIT 컴파일이 끝나도록 충분히 돌린 뒤 현재 스레드의 누적 할당량(ThreadMXBean)으로 잰다.
+ * 예산은 스트림과 중간 리스트를 쓰던 구현(합계 계산과 재고 수량 집계만 약 1.5KB)보다 작게 잡았다.
+ * 재고 수량 집계는 세는 map(상품마다 int[1])과 돌려줄 map을 하나씩 만든다.
+ */
+class OrderAllocationTest {
+
+    private static final int ITEMS_PER_ORDER = 10;
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final LocalDateTime registeredDateTime = LocalDateTime.of(2023, 3, 1, 10, 0);
+
+    private List<Product> products;
+
+    // JIT이 결과를 버리지 못하게 쓴다.
+    private long sink;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        // 제조 음료, 병 음료, 베이커리를 번갈아 담고, 같은 상품이 두 번씩 들어간다.
+        ProductType[] types = ProductType.values();
+        products = IntStream.range(0, ITEMS_PER_ORDER)
+                .mapToObj(i -> createProduct(types[i / 2 % types.length], String.format("%03d", i / 2 + 1)))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("재고 차감 수량을 집계할 때 주문당 할당량은 640바이트 이하이다.")
+    void createStockCountingMapBy() {
+        // when
+        long bytesPerOrder = measureBytesPerCall(products -> sink += OrderService.createStockCountingMapBy(products).size());
+
+        // then
+        assertThat(bytesPerOrder).isLessThanOrEqualTo(640);
+    }
+
+    @Test
+    @DisplayName("상품 10개로 주문을 만들 때 주문당 할당량은 1024바이트 이하이다.")
+    void createOrder() {
+        // when
+        long bytesPerOrder = measureBytesPerCall(products -> sink += Order.create(products, registeredDateTime).getTotalPrice());
+
+        // then
+        assertThat(bytesPerOrder).isLessThanOrEqualTo(1024);
+    }
+
+    private long measureBytesPerCall(Consumer<List<Product>> task) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            task.accept(products);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            task.accept(products);
+        }
+        long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+        return allocatedBytes / MEASURED_ITERATIONS;
+    }
+
+    private Product createProduct(ProductType type, String productNumber) {
+        return Product.builder()
+                .type(type)
+                .productNumber(productNumber)
+                .price(1000)
+                .sellingStatus(SELLING)
+                .name("메뉴 이름")
+                .build();
+    }
+
+}
@@ -0,0 +1,144 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sample.cafekiosk.spring.api.controller.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class OrderCreateExecutorTest {
+
+    private final OrderService orderService = mock(OrderService.class);
+
+    private final OrderCreateServiceRequest request = OrderCreateServiceRequest.builder()
+            .productNumbers(List.of("001"))
+            .build();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OrderCreateExecutor orderCreateExecutor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 스레드 1개, 대기열 1칸
+        orderCreateExecutor = new OrderCreateExecutor(orderService, meterRegistry, 1, 1, 3, 1000);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        orderCreateExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("주문 등록을 주문 전용 스레드에서 실행하고 결과를 돌려준다.")
+    void submit() throws Exception {
+        // given
+        OrderResponse orderResponse = OrderResponse.builder().id(1L).build();
+        given(orderService.createOrder(any(), any(LocalDateTime.class))).willAnswer(invocation -> {
+            assertThat(Thread.currentThread().getName()).startsWith("order-create-");
+            return orderResponse;
+        });
+
+        // when
+        CompletableFuture<OrderResponse> result = orderCreateExecutor.submit(request, LocalDateTime.now());
+
+        // then
+        assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(orderResponse);
+        assertThat(meterRegistry.get("order.create.queue.wait").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주문 등록이 실패하면 결과도 같은 예외로 실패한다.")
+    void submitWhenCreateOrderFails() {
+        // given
+        given(orderService.createOrder(any(), any(LocalDateTime.class)))
+                .willThrow(new IllegalArgumentException("재고가 부족한 상품이 있습니다."));
+
+        // when
+        CompletableFuture<OrderResponse> result = orderCreateExecutor.submit(request, LocalDateTime.now());
+
+        // then
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("실행 중인 주문과 대기열이 모두 차 있으면 주문을 쌓지 않고 거절한다.")
+    void submitWhenQueueIsFull() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(orderService.createOrder(any(), any(LocalDateTime.class))).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return OrderResponse.builder().build();
+        });
+
+        CompletableFuture<OrderResponse> running = orderCreateExecutor.submit(request, LocalDateTime.now());
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<OrderResponse> queued = orderCreateExecutor.submit(request, LocalDateTime.now());
+
+        // when // then
+        assertThat(meterRegistry.get("order.create.queue.size").gauge().value()).isEqualTo(1.0);
+        assertThatThrownBy(() -> orderCreateExecutor.submit(request, LocalDateTime.now()))
+                .isInstanceOf(OrderQueueFullException.class)
+                .hasMessage("주문이 많아 잠시 후 다시 시도해 주세요.")
+                .extracting("retryAfterSeconds")
+                .isEqualTo(3);
+        assertThat(meterRegistry.get("order.create.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("대기열에서 기다리는 주문만 취소되고 등록하지 않는다. 이미 실행 중인 주문은 취소되지 않는다.")
+    void submitWhenCancelledInQueue() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(orderService.createOrder(any(), any(LocalDateTime.class))).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return OrderResponse.builder().build();
+        });
+
+        CompletableFuture<OrderResponse> running = orderCreateExecutor.submit(request, LocalDateTime.now());
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<OrderResponse> queued = orderCreateExecutor.submit(request, LocalDateTime.now());
+
+        // when
+        boolean queuedCancelled = queued.cancel(false);
+        boolean runningCancelled = running.cancel(false);
+        release.countDown();
+
+        // then
+        assertThat(queuedCancelled).isTrue();
+        assertThat(runningCancelled).isFalse();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isNotNull();
+        orderCreateExecutor.shutdown();
+        assertThat(queued).isCancelled();
+        verify(orderService, times(1)).createOrder(any(), any(LocalDateTime.class));
+    }
+
+}
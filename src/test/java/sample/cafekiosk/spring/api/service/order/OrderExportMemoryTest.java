@@ -0,0 +1,121 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 100만 건(주문상품 100만 개)을 힙 256MB에서 내보내도 메모리가 부족하지 않은지 확인한다.
+ * DB가 힙을 차지하지 않도록 파일 H2를 쓰고, 출력은 줄 수만 세고 버린다.
+ * 스트리밍하면 읽은 행은 young 영역에서 바로 수거되므로, 행 수와 상관없이 old 영역이 거의 늘지 않아야 한다.
+ * ./gradlew exportMemoryTest 로 실행한다.
+ */
+@EnabledIfSystemProperty(named = "exportMemory", matches = "true")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:file:./build/h2/order-export;LAZY_QUERY_EXECUTION=TRUE",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+class OrderExportMemoryTest extends IntegrationTestSupport {
+
+    private static final int ORDER_COUNT = 1_000_000;
+
+    private static final LocalDateTime START_DATE_TIME = LocalDateTime.of(2023, 11, 6, 0, 0);
+
+    // 주문 100만 건을 메모리에 모으면 100MB가 넘게 old 영역으로 넘어간다.
+    private static final long MAX_OLD_GEN_GROWTH_BYTES = 32 * 1024 * 1024;
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from order_product");
+        jdbcTemplate.update("delete from orders");
+        jdbcTemplate.update("delete from product");
+    }
+
+    @ParameterizedTest
+    @EnumSource(OrderExportFormat.class)
+    @DisplayName("주문 100만 건을 작은 힙에서 끝까지 내보낸다.")
+    void exportMillionOrders(OrderExportFormat format) throws Exception {
+        // given
+        insertOrders();
+        LineCountingOutputStream outputStream = new LineCountingOutputStream();
+        List<MemoryPoolMXBean> oldGenPools = oldGenPools();
+        System.gc();
+        long oldGenUsageBefore = oldGenPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+        oldGenPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        // when
+        orderExportService.export(START_DATE_TIME, START_DATE_TIME.plusDays(1), format, outputStream);
+
+        // then
+        long expectedLines = format == OrderExportFormat.CSV ? ORDER_COUNT + 1 : ORDER_COUNT;
+        assertThat(outputStream.lineCount).isEqualTo(expectedLines);
+
+        long oldGenPeakUsage = oldGenPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        assertThat(oldGenPools).isNotEmpty();
+        assertThat(oldGenPeakUsage - oldGenUsageBefore).isLessThan(MAX_OLD_GEN_GROWTH_BYTES);
+    }
+
+    private void insertOrders() {
+        jdbcTemplate.update("insert into product (id, product_number, type, selling_status, name, price) " +
+                "values (1, '001', 'HANDMADE', 'SELLING', '아메리카노', 4000)");
+        jdbcTemplate.update("insert into orders (id, order_status, total_price, registered_date_time) " +
+                "select x, 'PAYMENT_COMPLETED', 4000, dateadd('MILLISECOND', x * 50, ?) from system_range(1, ?)",
+                START_DATE_TIME, ORDER_COUNT);
+        jdbcTemplate.update("insert into order_product (id, order_id, product_id, price) " +
+                "select x, x, 1, 4000 from system_range(1, ?)", ORDER_COUNT);
+    }
+
+    // G1 Old Gen, PS Old Gen, Tenured Gen
+    private static List<MemoryPoolMXBean> oldGenPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .filter(pool -> pool.getName().contains("Old Gen") || pool.getName().contains("Tenured"))
+                .collect(Collectors.toList());
+    }
+
+    private static class LineCountingOutputStream extends OutputStream {
+
+        private long lineCount;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lineCount++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lineCount++;
+                }
+            }
+        }
+
+    }
+
+}
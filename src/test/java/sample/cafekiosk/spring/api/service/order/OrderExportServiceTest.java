@@ -0,0 +1,131 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+
+class OrderExportServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("기간 내 주문을 주문상품마다 한 줄씩 CSV로 내보낸다.")
+    void exportCsv() throws Exception {
+        // given
+        LocalDateTime startDateTime = LocalDateTime.of(2023, 11, 6, 0, 0);
+        Product americano = createProduct("001", "아메리카노", 4000);
+        Product latte = createProduct("002", "카페라떼, 샷 추가", 4500);
+        productRepository.saveAll(List.of(americano, latte));
+
+        Order order1 = orderRepository.save(Order.create(List.of(americano, latte), startDateTime.plusHours(1)));
+        Order order2 = orderRepository.save(Order.create(List.of(americano), startDateTime.plusHours(2)));
+        orderRepository.save(Order.create(List.of(americano), startDateTime.plusDays(1)));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        orderExportService.export(startDateTime, startDateTime.plusDays(1), OrderExportFormat.CSV, outputStream);
+
+        // then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8).split("\n")).containsExactly(
+                "order_id,registered_date_time,order_status,total_price,product_number,product_name,price",
+                order1.getId() + ",2023-11-06T01:00,INIT,8500,001,아메리카노,4000",
+                order1.getId() + ",2023-11-06T01:00,INIT,8500,002,\"카페라떼, 샷 추가\",4500",
+                order2.getId() + ",2023-11-06T02:00,INIT,4000,001,아메리카노,4000"
+        );
+    }
+
+    @Test
+    @DisplayName("기간 내 주문을 주문마다 한 줄씩 NDJSON으로 내보낸다.")
+    void exportNdjson() throws Exception {
+        // given
+        LocalDateTime startDateTime = LocalDateTime.of(2023, 11, 6, 0, 0);
+        Product americano = createProduct("001", "아메리카노", 4000);
+        Product latte = createProduct("002", "카페라떼", 4500);
+        productRepository.saveAll(List.of(americano, latte));
+
+        Order order1 = orderRepository.save(Order.create(List.of(americano, latte), startDateTime.plusHours(1)));
+        Order order2 = orderRepository.save(Order.create(List.of(latte), startDateTime.plusHours(2)));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        orderExportService.export(startDateTime, startDateTime.plusDays(1), OrderExportFormat.NDJSON, outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("orderId").asLong()).isEqualTo(order1.getId());
+        assertThat(first.get("totalPrice").asLong()).isEqualTo(8500);
+        assertThat(first.get("products").findValuesAsText("productNumber")).containsExactly("001", "002");
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("orderId").asLong()).isEqualTo(order2.getId());
+        assertThat(second.get("registeredDateTime").asText()).isEqualTo("2023-11-06T02:00");
+        assertThat(second.get("products").findValuesAsText("name")).containsExactly("카페라떼");
+    }
+
+    @Test
+    @DisplayName("시작 시간이 종료 시간보다 이전이 아니면 내보낼 수 없다.")
+    void exportWithInvalidPeriod() {
+        // given
+        LocalDateTime dateTime = LocalDateTime.of(2023, 11, 6, 0, 0);
+
+        // when // then
+        assertThatThrownBy(() -> orderExportService.export(dateTime, dateTime, OrderExportFormat.CSV, new ByteArrayOutputStream()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("시작 시간은 종료 시간보다 이전이어야 합니다.");
+    }
+
+    private Product createProduct(String productNumber, String name, int price) {
+        return Product.builder()
+                .type(ProductType.HANDMADE)
+                .productNumber(productNumber)
+                .price(price)
+                .sellingStatus(SELLING)
+                .name(name)
+                .build();
+    }
+
+}
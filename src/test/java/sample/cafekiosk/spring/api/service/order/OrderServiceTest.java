@@ -1,14 +1,24 @@
 package sample.cafekiosk.spring.api.service.order;
 
 import org.assertj.core.groups.Tuple;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.schedule.BusinessHours;
 import sample.cafekiosk.spring.IntegrationTestSupport;
 import sample.cafekiosk.spring.api.controller.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.controller.order.response.OrderBatchResponse;
+import sample.cafekiosk.spring.api.controller.order.response.OrderPageResponse;
 import sample.cafekiosk.spring.api.controller.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.order.request.OrderBatchCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.store.StoreBusinessHours;
+import sample.cafekiosk.spring.domain.order.Order;
 import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
 import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
 import sample.cafekiosk.spring.domain.product.Product;
 import sample.cafekiosk.spring.domain.product.ProductRepository;
@@ -16,6 +26,7 @@ import sample.cafekiosk.spring.domain.product.ProductType;
 import sample.cafekiosk.spring.domain.stock.Stock;
 import sample.cafekiosk.spring.domain.stock.StockRepository;
 
+import javax.persistence.EntityManagerFactory;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -41,12 +52,19 @@ class OrderServiceTest extends IntegrationTestSupport {
     @Autowired
     StockRepository stockRepository;
 
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    StoreBusinessHours storeBusinessHours;
+
     @AfterEach
     void tearDown() {
         orderProductRepository.deleteAllInBatch();
         productRepository.deleteAllInBatch();
         orderRepository.deleteAllInBatch();
         stockRepository.deleteAllInBatch();
+        storeBusinessHours.replace(BusinessHours.ALWAYS_OPEN);
     }
 
     @Test
@@ -70,7 +88,7 @@ class OrderServiceTest extends IntegrationTestSupport {
         assertThat(orderResponse.getId()).isNotNull();
         assertThat(orderResponse)
                 .extracting("registeredDateTime", "totalPrice")
-                .contains(registeredDateTime, 4000);
+                .contains(registeredDateTime, 4000L);
 
         assertThat(orderResponse.getProducts()).hasSize(2)
                 .extracting("productNumber", "price")
@@ -101,7 +119,7 @@ class OrderServiceTest extends IntegrationTestSupport {
         assertThat(orderResponse.getId()).isNotNull();
         assertThat(orderResponse)
                 .extracting("registeredDateTime", "totalPrice")
-                .contains(registeredDateTime, 2000);
+                .contains(registeredDateTime, 2000L);
 
         assertThat(orderResponse.getProducts()).hasSize(2)
                 .extracting("productNumber", "price")
@@ -138,7 +156,7 @@ class OrderServiceTest extends IntegrationTestSupport {
         assertThat(orderResponse.getId()).isNotNull(); // 해당 값이 null인지 아닌지 = isPresent()
         assertThat(orderResponse)
                 .extracting("registeredDateTime", "totalPrice")
-                .contains(registeredDateTime, 10000);
+                .contains(registeredDateTime, 10000L);
 
         assertThat(orderResponse.getProducts()).hasSize(4)
                 .extracting("productNumber", "price")
@@ -186,6 +204,215 @@ class OrderServiceTest extends IntegrationTestSupport {
 
     }
 
+    @Test
+    @DisplayName("영업시간이 아닐 때 주문을 생성하려는 경우 예외가 발생한다.")
+    void createOrderOutsideBusinessHours() {
+        // given
+        productRepository.save(createProduct("001", 1000));
+        storeBusinessHours.replace(BusinessHours.parse("MON-SUN 10:00-22:00"));
+
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNumbers(List.of("001"))
+                .build();
+
+        // when // then
+        assertThatThrownBy(() -> orderService.createOrder(request.toServiceRequest(), LocalDateTime.of(2023, 1, 17, 9, 59)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문 시간이 아닙니다. 관리자에게 문의하세요.");
+        assertThat(orderRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품으로 주문을 생성하려는 경우 예외가 발생한다.")
+    void createOrderWithNotExistProduct() {
+        // given
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        productRepository.save(createProduct("001", 1000));
+
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNumbers(List.of("001", "999"))
+                .build();
+
+        // when // then
+        assertThatThrownBy(() -> orderService.createOrder(request.toServiceRequest(), registeredDateTime))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 상품이 있습니다.");
+        assertThat(orderRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 주문을 한 번에 등록하면 주문별 결과를 돌려주고, 재고가 부족하거나 없는 상품이 있는 주문만 실패한다.")
+    void createOrders() {
+        // given
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+
+        Product product1 = createProduct(BOTTLE, "001", 1000);
+        Product product2 = createProduct(BAKERY, "002", 3000);
+        Product product3 = createProduct(HANDMADE, "003", 5000);
+        productRepository.saveAll(List.of(product1, product2, product3));
+
+        stockRepository.saveAll(List.of(Stock.create("001", 2), Stock.create("002", 1)));
+
+        OrderBatchCreateServiceRequest request = OrderBatchCreateServiceRequest.builder()
+                .orders(List.of(
+                        createOrderRequest("001", "003"),
+                        createOrderRequest("001", "002"),
+                        createOrderRequest("001", "001"),
+                        createOrderRequest("003", "999"),
+                        createOrderRequest("002")
+                ))
+                .build();
+
+        // when
+        OrderBatchResponse response = orderService.createOrders(request, registeredDateTime);
+
+        // then
+        assertThat(response)
+                .extracting("successCount", "failureCount")
+                .contains(2, 3);
+        assertThat(response.getResults())
+                .extracting("index", "success", "message")
+                .containsExactly(
+                        Tuple.tuple(0, true, null),
+                        Tuple.tuple(1, true, null),
+                        Tuple.tuple(2, false, "재고가 부족한 상품이 있습니다."),
+                        Tuple.tuple(3, false, "존재하지 않는 상품이 있습니다."),
+                        Tuple.tuple(4, false, "재고가 부족한 상품이 있습니다.")
+                );
+        assertThat(response.getResults().get(0).getOrder())
+                .extracting("registeredDateTime", "totalPrice")
+                .contains(registeredDateTime, 6000L);
+
+        assertThat(orderRepository.findAll()).hasSize(2);
+        assertThat(orderProductRepository.findAll()).hasSize(4);
+        assertThat(stockRepository.findAll())
+                .extracting("productNumber", "quantity")
+                .containsExactlyInAnyOrder(
+                        Tuple.tuple("001", 0),
+                        Tuple.tuple("002", 0)
+                );
+    }
+
+    @Test
+    @DisplayName("주문을 조회할 때 주문상품과 상품을 한 번의 쿼리로 읽는다.")
+    void getOrder() {
+        // given
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 11, 6, 10, 0);
+        List<Product> products = productRepository.saveAll(List.of(
+                createProduct("001", 1000),
+                createProduct("002", 3000),
+                createProduct("003", 5000)
+        ));
+        Order order = orderRepository.save(Order.create(products, registeredDateTime));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll(); // 상품을 2차 캐시가 아닌 DB에서 읽는 경우로 센다.
+        long prepareStatementCount = statistics.getPrepareStatementCount();
+
+        // when
+        OrderResponse orderResponse = orderService.getOrder(order.getId());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount() - prepareStatementCount).isEqualTo(1);
+        assertThat(orderResponse)
+                .extracting("id", "totalPrice", "registeredDateTime")
+                .contains(order.getId(), 9000L, registeredDateTime);
+        assertThat(orderResponse.getProducts())
+                .extracting("productNumber", "price")
+                .containsExactly(
+                        Tuple.tuple("001", 1000),
+                        Tuple.tuple("002", 3000),
+                        Tuple.tuple("003", 5000)
+                );
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 주문은 조회할 수 없다.")
+    void getOrderWhenOrderIsNotExist() {
+        // when // then
+        assertThatThrownBy(() -> orderService.getOrder(-1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 주문입니다.");
+    }
+
+    @Test
+    @DisplayName("주문 목록을 최근 주문부터 조회하고, 응답의 커서로 다음 페이지를 이어서 조회한다.")
+    void getOrders() {
+        // given
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 11, 6, 10, 0);
+        Product product = createProduct("001", 1000);
+        productRepository.save(product);
+
+        Order order1 = orderRepository.save(Order.create(List.of(product), registeredDateTime));
+        Order order2 = orderRepository.save(Order.create(List.of(product), registeredDateTime));
+        Order order3 = orderRepository.save(Order.create(List.of(product, product), registeredDateTime.plusMinutes(1)));
+
+        // when
+        OrderPageResponse firstPage = orderService.getOrders(null, null, 2);
+        OrderPageResponse secondPage = orderService.getOrders(null, firstPage.getNextCursor(), 2);
+
+        // then
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(firstPage.getOrders())
+                .extracting("id", "totalPrice")
+                .containsExactly(
+                        Tuple.tuple(order3.getId(), 2000L),
+                        Tuple.tuple(order2.getId(), 1000L)
+                );
+
+        assertThat(secondPage.isHasNext()).isFalse();
+        assertThat(secondPage.getNextCursor()).isNull();
+        assertThat(secondPage.getOrders())
+                .extracting("id")
+                .containsExactly(order1.getId());
+    }
+
+    @Test
+    @DisplayName("주문 목록을 주문상태로 걸러서 조회한다.")
+    void getOrdersWithOrderStatus() {
+        // given
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 11, 6, 10, 0);
+        Product product = createProduct("001", 1000);
+        productRepository.save(product);
+
+        Order canceled = Order.create(List.of(product), registeredDateTime);
+        canceled.changeOrderStatus(OrderStatus.CANCELED);
+        orderRepository.saveAll(List.of(Order.create(List.of(product), registeredDateTime), canceled));
+
+        // when
+        OrderPageResponse orderPage = orderService.getOrders(OrderStatus.CANCELED, null, 20);
+
+        // then
+        assertThat(orderPage.isHasNext()).isFalse();
+        assertThat(orderPage.getOrders())
+                .extracting("id", "orderStatus")
+                .containsExactly(Tuple.tuple(canceled.getId(), OrderStatus.CANCELED));
+    }
+
+    @Test
+    @DisplayName("주문 목록의 페이지 크기는 1 이상 100 이하여야 한다.")
+    void getOrdersWithInvalidPageSize() {
+        // when // then
+        assertThatThrownBy(() -> orderService.getOrders(null, null, 101))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("페이지 크기는 1 이상 100 이하여야 합니다.");
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 커서로는 주문 목록을 조회할 수 없다.")
+    void getOrdersWithInvalidCursor() {
+        // when // then
+        assertThatThrownBy(() -> orderService.getOrders(null, "not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    private OrderCreateServiceRequest createOrderRequest(String... productNumbers) {
+        return OrderCreateServiceRequest.builder()
+                .productNumbers(List.of(productNumbers))
+                .build();
+    }
+
     private Product createProduct(String productNumber, int price) {
         return Product.builder()
                 .type(ProductType.HANDMADE)
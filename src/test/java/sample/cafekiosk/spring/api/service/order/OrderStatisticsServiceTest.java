@@ -1,12 +1,19 @@
 package sample.cafekiosk.spring.api.service.order;
 
+import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.mail.MailDeliveryWorker;
+import sample.cafekiosk.spring.api.service.mail.MailOutboxService;
+import sample.cafekiosk.spring.api.service.mail.MailSendHistoryWriter;
+import sample.cafekiosk.spring.api.service.order.response.OrderStatisticsResponse;
+import sample.cafekiosk.spring.api.service.sales.DailySalesService;
 import sample.cafekiosk.spring.domain.history.mail.MailSendHistory;
 import sample.cafekiosk.spring.domain.history.mail.MailSendHistoryRepository;
+import sample.cafekiosk.spring.domain.mail.MailOutboxRepository;
 import sample.cafekiosk.spring.domain.order.Order;
 import sample.cafekiosk.spring.domain.order.OrderRepository;
 import sample.cafekiosk.spring.domain.order.OrderStatus;
@@ -14,6 +21,7 @@ import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
 import sample.cafekiosk.spring.domain.product.Product;
 import sample.cafekiosk.spring.domain.product.ProductRepository;
 import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.domain.sales.DailySalesRepository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -41,12 +49,32 @@ class OrderStatisticsServiceTest extends IntegrationTestSupport {
     @Autowired
     private MailSendHistoryRepository mailSendHistoryRepository;
 
+    @Autowired
+    private DailySalesRepository dailySalesRepository;
+
+    @Autowired
+    private DailySalesService dailySalesService;
+
+    @Autowired
+    private MailOutboxService mailOutboxService;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private MailDeliveryWorker mailDeliveryWorker;
+
+    @Autowired
+    private MailSendHistoryWriter mailSendHistoryWriter;
+
     @AfterEach
     void tearDown() {
         orderProductRepository.deleteAllInBatch();
         orderRepository.deleteAllInBatch();
         productRepository.deleteAllInBatch();
         mailSendHistoryRepository.deleteAllInBatch();
+        dailySalesRepository.deleteAllInBatch();
+        mailOutboxRepository.deleteAllInBatch();
     }
 
     @Test
@@ -70,6 +98,8 @@ class OrderStatisticsServiceTest extends IntegrationTestSupport {
 
         // when
         boolean result = orderStatisticsService.sendOrderStatisticsMail(LocalDate.of(2023, 11, 5), "test@test.com");
+        mailDeliveryWorker.deliverDue(10);
+        mailSendHistoryWriter.flush();
 
         // then
         assertThat(result).isTrue();
@@ -80,6 +110,92 @@ class OrderStatisticsServiceTest extends IntegrationTestSupport {
                 .contains("총 매출 합계는 12000원입니다.");
     }
 
+    @Test
+    @DisplayName("DB 집계 방식으로 설정하면 orders 테이블에서 바로 합산한 매출로 메일을 전송한다.")
+    void sendOrderStatisticsMailWithAggregateSource() {
+        // given
+        Product product1 = createProduct("001", 1000);
+        Product product2 = createProduct("002", 2000);
+        List<Product> products = List.of(product1, product2);
+        productRepository.saveAll(products);
+
+        createPaymentCompletedOrder(LocalDateTime.of(2023, 11, 5, 10, 0), products);
+        createPaymentCompletedOrder(LocalDateTime.of(2023, 11, 6, 0, 0), products);
+        dailySalesRepository.deleteAllInBatch(); // 집계 테이블을 읽지 않는지 확인하기 위해 비운다.
+
+        OrderStatisticsService aggregateStatisticsService = new OrderStatisticsService(
+                orderRepository, dailySalesService, mailOutboxService, OrderStatisticsSource.AGGREGATE);
+
+        when(mailSendClient.sendEmail(any(String.class), any(String.class), any(String.class), any(String.class)))
+                .thenReturn(true);
+
+        // when
+        boolean result = aggregateStatisticsService.sendOrderStatisticsMail(LocalDate.of(2023, 11, 5), "test@test.com");
+        mailDeliveryWorker.deliverDue(10);
+        mailSendHistoryWriter.flush();
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(mailSendHistoryRepository.findAll()).hasSize(1)
+                .extracting("content")
+                .contains("총 매출 합계는 3000원입니다.");
+    }
+
+    @Test
+    @DisplayName("결제완료 주문의 매출 합계, 주문 수, 상품 타입별 판매 현황을 조회한다.")
+    void getOrderStatistics() {
+        // given
+        Product americano = createProduct("001", 4000);
+        Product croissant = Product.builder()
+                .type(ProductType.BAKERY)
+                .productNumber("002")
+                .price(3000)
+                .sellingStatus(SELLING)
+                .name("크루아상")
+                .build();
+        productRepository.saveAll(List.of(americano, croissant));
+
+        createPaymentCompletedOrder(LocalDateTime.of(2023, 11, 5, 10, 0), List.of(americano, croissant));
+        createPaymentCompletedOrder(LocalDateTime.of(2023, 11, 5, 11, 0), List.of(americano));
+        createPaymentCompletedOrder(LocalDateTime.of(2023, 11, 6, 0, 0), List.of(croissant));
+
+        // when
+        OrderStatisticsResponse response = orderStatisticsService.getOrderStatistics(LocalDate.of(2023, 11, 5));
+
+        // then
+        assertThat(response)
+                .extracting("orderDate", "totalAmount", "orderCount")
+                .contains(LocalDate.of(2023, 11, 5), 11000L, 2L);
+        assertThat(response.getProductTypes())
+                .extracting("type", "totalAmount", "productCount")
+                .containsExactlyInAnyOrder(
+                        Tuple.tuple(ProductType.HANDMADE, 8000L, 2L),
+                        Tuple.tuple(ProductType.BAKERY, 3000L, 1L)
+                );
+    }
+
+    @Test
+    @DisplayName("주문 금액과 매출 합계가 int 범위를 넘어도 넘치지 않고 합산한다.")
+    void getOrderStatisticsOverIntRange() {
+        // given
+        Product product1 = createProduct("001", 1_500_000_000);
+        Product product2 = createProduct("002", 1_500_000_000);
+        List<Product> products = List.of(product1, product2);
+        productRepository.saveAll(products);
+
+        createPaymentCompletedOrder(LocalDateTime.of(2023, 11, 5, 10, 0), products);
+        createPaymentCompletedOrder(LocalDateTime.of(2023, 11, 5, 11, 0), products);
+
+        // when
+        OrderStatisticsResponse response = orderStatisticsService.getOrderStatistics(LocalDate.of(2023, 11, 5));
+
+        // then
+        assertThat(response)
+                .extracting("totalAmount", "orderCount")
+                .contains(6_000_000_000L, 2L);
+        assertThat(dailySalesService.getTotalAmount(LocalDate.of(2023, 11, 5))).isEqualTo(6_000_000_000L);
+    }
+
     private Order createPaymentCompletedOrder(LocalDateTime now, List<Product> products) {
         Order order = Order.builder()
                 .products(products)
@@ -0,0 +1,114 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+
+class ProductIdIndexTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ProductIdIndex productIdIndex;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch();
+        productIdIndex.clear();
+    }
+
+    @Test
+    @DisplayName("상품번호로 상품을 조회하고, 조회한 상품번호의 상품 id를 기억한다.")
+    void findProductMapBy() {
+        // given
+        productRepository.saveAll(List.of(createProduct("001", 1000), createProduct("002", 2000)));
+
+        // when
+        Map<String, Product> productMap = productIdIndex.findProductMapBy(List.of("001", "002", "001", "999"));
+
+        // then
+        assertThat(productMap).containsOnlyKeys("001", "002");
+        assertThat(productMap.get("002").getPrice()).isEqualTo(2000);
+        assertThat(productIdIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 상품은 2차 캐시에서 읽으므로 다시 조회할 때 SQL을 실행하지 않는다.")
+    void findProductMapByFromSecondLevelCache() {
+        // given
+        productRepository.saveAll(List.of(createProduct("001", 1000), createProduct("002", 2000)));
+        productIdIndex.findProductMapBy(List.of("001", "002"));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long prepareStatementCount = statistics.getPrepareStatementCount();
+
+        // when
+        Map<String, Product> productMap = productIdIndex.findProductMapBy(List.of("001", "002"));
+
+        // then
+        assertThat(productMap).containsOnlyKeys("001", "002");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(prepareStatementCount);
+    }
+
+    @Test
+    @DisplayName("기억한 상품 id의 상품이 이벤트 없이 삭제됐으면 상품번호로 다시 조회하고 매핑을 지운다.")
+    void findProductMapByAfterBatchDelete() {
+        // given
+        productRepository.save(createProduct("001", 1000));
+        productIdIndex.findProductMapBy(List.of("001"));
+        productRepository.deleteAllInBatch();
+
+        // when
+        Map<String, Product> productMap = productIdIndex.findProductMapBy(List.of("001"));
+
+        // then
+        assertThat(productMap).isEmpty();
+        assertThat(productIdIndex.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상품 변경이 커밋되면 해당 상품번호의 매핑을 지운다.")
+    void evictWhenProductChanged() {
+        // given
+        productRepository.save(createProduct("001", 1000));
+        productIdIndex.findProductMapBy(List.of("001"));
+
+        // when
+        Product product = productRepository.save(createProduct("002", 2000));
+        productIdIndex.findProductMapBy(List.of("002"));
+        productRepository.delete(productRepository.findAllByProductNumberIn(List.of("001")).get(0));
+
+        // then
+        assertThat(productIdIndex.size()).isEqualTo(1);
+        assertThat(productIdIndex.findProductMapBy(List.of("002")).get("002").getId()).isEqualTo(product.getId());
+    }
+
+    private Product createProduct(String productNumber, int price) {
+        return Product.builder()
+                .type(ProductType.HANDMADE)
+                .productNumber(productNumber)
+                .price(price)
+                .sellingStatus(SELLING)
+                .name("메뉴 이름")
+                .build();
+    }
+
+}
@@ -0,0 +1,141 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 10만 개 중 무작위 10개를 주문할 때, 상품번호로 상품을 찾는 시간을 조회 방식별로 잰다.
+ * ./gradlew benchmark 로 실행한다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TestPropertySource(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+class ProductLookupBenchmarkTest extends IntegrationTestSupport {
+
+    private static final int PRODUCT_COUNT = 100_000;
+    private static final int ITEMS_PER_ORDER = 10;
+    private static final int WARMUP_LOOKUPS = 500;
+    private static final int MEASURED_LOOKUPS = 5_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductIdIndex productIdIndex;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch();
+        productIdIndex.clear();
+    }
+
+    @Test
+    @DisplayName("상품 10만 개에서 주문 상품 10개를 찾는 시간을 인덱스 유무와 id 매핑 사용 여부별로 측정한다.")
+    void lookupProducts() {
+        // given
+        insertProducts();
+        List<List<String>> orders = createRandomOrders(new Random(42));
+        orders.forEach(productIdIndex::findProductMapBy);
+
+        // when
+        long[] indexed = measure(orders, productNumbers -> productRepository.findAllByProductNumberIn(productNumbers).size());
+        long[] idIndex = measure(orders, productNumbers -> productIdIndex.findProductMapBy(productNumbers).size());
+        long[] fullScan = measureWithoutUniqueIndex(orders);
+
+        // then
+        print("full scan (인덱스 없음)", fullScan);
+        print("unique index", indexed);
+        print("id 매핑 + 2차 캐시", idIndex);
+
+        assertThat(productRepository.count()).isEqualTo(PRODUCT_COUNT);
+    }
+
+    private long[] measureWithoutUniqueIndex(List<List<String>> orders) {
+        jdbcTemplate.execute("alter table product drop constraint if exists uk_product_product_number");
+        jdbcTemplate.execute("drop index if exists uk_product_product_number");
+        try {
+            return measure(orders, productNumbers -> productRepository.findAllByProductNumberIn(productNumbers).size());
+        } finally {
+            jdbcTemplate.execute("alter table product add constraint uk_product_product_number unique (product_number)");
+        }
+    }
+
+    private long[] measure(List<List<String>> orders, Function<List<String>, Integer> lookup) {
+        for (int i = 0; i < WARMUP_LOOKUPS; i++) {
+            lookupInTransaction(orders.get(i % orders.size()), lookup);
+        }
+
+        long[] elapsedNanos = new long[MEASURED_LOOKUPS];
+        for (int i = 0; i < MEASURED_LOOKUPS; i++) {
+            long startNanos = System.nanoTime();
+            int foundCount = lookupInTransaction(orders.get(i % orders.size()), lookup);
+            elapsedNanos[i] = System.nanoTime() - startNanos;
+            assertThat(foundCount).isEqualTo(ITEMS_PER_ORDER);
+        }
+        return elapsedNanos;
+    }
+
+    private int lookupInTransaction(List<String> productNumbers, Function<List<String>, Integer> lookup) {
+        return transactionTemplate.execute(status -> lookup.apply(productNumbers));
+    }
+
+    private void insertProducts() {
+        List<Object[]> rows = IntStream.rangeClosed(1, PRODUCT_COUNT)
+                .mapToObj(i -> new Object[]{String.format("%06d", i)})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(
+                "insert into product(id, product_number, type, selling_status, name, price) "
+                        + "values (next value for product_seq, ?, 'HANDMADE', 'SELLING', '메뉴 이름', 1000)",
+                rows
+        );
+    }
+
+    private List<List<String>> createRandomOrders(Random random) {
+        List<List<String>> orders = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            orders.add(random.ints(1, PRODUCT_COUNT + 1)
+                    .distinct()
+                    .limit(ITEMS_PER_ORDER)
+                    .mapToObj(n -> String.format("%06d", n))
+                    .collect(Collectors.toList()));
+        }
+        return orders;
+    }
+
+    private static void print(String name, long[] elapsedNanos) {
+        long[] sorted = elapsedNanos.clone();
+        Arrays.sort(sorted);
+        System.out.printf(">>> [%s] 조회 %d회, 평균 %.1fus, p50 %.1fus, p99 %.1fus%n",
+                name, sorted.length,
+                Arrays.stream(sorted).average().orElse(0) / 1_000.0,
+                sorted[sorted.length / 2] / 1_000.0,
+                sorted[(int) (sorted.length * 0.99)] / 1_000.0);
+    }
+
+}
@@ -0,0 +1,183 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.product.request.ProductCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductNumberSequenceRepository;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+
+class ProductNumberFactoryTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ProductNumberFactory productNumberFactory;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductNumberSequenceRepository productNumberSequenceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch();
+        productNumberSequenceRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("발급 현황이 없으면 등록된 가장 큰 상품번호 다음 번호부터 발급한다.")
+    void createNextProductNumberFromLatestProduct() {
+        // given
+        productRepository.saveAll(List.of(createProduct("007"), createProduct("003")));
+
+        // when
+        String first = productNumberFactory.createNextProductNumber();
+        String second = productNumberFactory.createNextProductNumber();
+
+        // then
+        assertThat(first).isEqualTo("008");
+        assertThat(second).isEqualTo("009");
+    }
+
+    @Test
+    @DisplayName("숫자가 아닌 상품번호가 있어도 건너뛰고, 가장 큰 숫자 상품번호 다음 번호부터 발급한다.")
+    void createNextProductNumberWithNonNumericProductNumber() {
+        // given
+        productRepository.saveAll(List.of(createProduct("007"), createProduct("SET-01"), createProduct("ABC")));
+        ProductNumberFactory factory = createFactory(100);
+
+        // when
+        String productNumber = factory.createNextProductNumber();
+
+        // then
+        assertThat(productNumber).isEqualTo("008");
+    }
+
+    @Test
+    @DisplayName("구간 안에서는 DB를 다시 읽지 않고, 구간을 다 쓰면 다음 구간을 가져온다.")
+    void createNextProductNumberByBlock() {
+        // given
+        ProductNumberFactory factory = createFactory(3);
+
+        // when
+        List<String> productNumbers = IntStream.range(0, 4)
+                .mapToObj(i -> factory.createNextProductNumber())
+                .collect(Collectors.toList());
+
+        // then
+        assertThat(productNumbers).containsExactly("001", "002", "003", "004");
+        assertThat(productNumberSequenceRepository.findById("product"))
+                .hasValueSatisfying(sequence -> assertThat(sequence.getNextValue()).isEqualTo(7));
+    }
+
+    @Test
+    @DisplayName("여러 노드가 같은 발급 현황을 공유하면 서로 겹치지 않는 구간을 가져간다.")
+    void createNextProductNumberOnMultipleNodes() throws Exception {
+        // given
+        List<ProductNumberFactory> nodes = List.of(createFactory(10), createFactory(10), createFactory(10));
+        int numbersPerNode = 500;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(nodes.size());
+        List<Future<List<String>>> futures = new ArrayList<>();
+
+        // when
+        for (ProductNumberFactory node : nodes) {
+            futures.add(executorService.submit(() -> IntStream.range(0, numbersPerNode)
+                    .mapToObj(i -> node.createNextProductNumber())
+                    .collect(Collectors.toList())));
+        }
+
+        List<String> productNumbers = new ArrayList<>();
+        for (Future<List<String>> future : futures) {
+            productNumbers.addAll(future.get(30, TimeUnit.SECONDS));
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(productNumbers).hasSize(nodes.size() * numbersPerNode)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("커넥션 풀보다 많은 스레드가 동시에 상품을 등록해도 멈추지 않고, 상품번호가 겹치지 않는다.")
+    void createProductConcurrently() throws Exception {
+        // given
+        // HikariCP 기본 커넥션 풀(10개)보다 많은 스레드가 구간 발급을 기다리게 한다.
+        int threadCount = 20;
+        int productsPerThread = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<List<String>>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                List<String> productNumbers = new ArrayList<>();
+                for (int j = 0; j < productsPerThread; j++) {
+                    ProductResponse response = productService.createProduct(createRequest());
+                    productNumbers.add(response.getProductNumber());
+                }
+                return productNumbers;
+            }));
+        }
+        startLatch.countDown();
+
+        List<String> productNumbers = new ArrayList<>();
+        for (Future<List<String>> future : futures) {
+            productNumbers.addAll(future.get(60, TimeUnit.SECONDS));
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(productNumbers).hasSize(threadCount * productsPerThread)
+                .doesNotHaveDuplicates();
+        assertThat(productRepository.findAll()).extracting("productNumber")
+                .doesNotHaveDuplicates();
+    }
+
+    private ProductNumberFactory createFactory(int blockSize) {
+        return new ProductNumberFactory(productRepository, productNumberSequenceRepository, transactionManager, blockSize);
+    }
+
+    private ProductCreateServiceRequest createRequest() {
+        return ProductCreateServiceRequest.builder()
+                .type(ProductType.HANDMADE)
+                .sellingStatus(SELLING)
+                .name("카푸치노")
+                .price(5000)
+                .build();
+    }
+
+    private Product createProduct(String productNumber) {
+        return Product.builder()
+                .type(ProductType.HANDMADE)
+                .productNumber(productNumber)
+                .price(1000)
+                .sellingStatus(SELLING)
+                .name("메뉴 이름")
+                .build();
+    }
+
+}
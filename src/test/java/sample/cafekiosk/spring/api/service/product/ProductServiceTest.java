@@ -3,13 +3,16 @@ package sample.cafekiosk.spring.api.service.product;
 import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
 import sample.cafekiosk.spring.IntegrationTestSupport;
 import sample.cafekiosk.spring.api.controller.product.dto.request.ProductCreateRequest;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
 import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductNumberSequenceRepository;
 import sample.cafekiosk.spring.domain.product.ProductRepository;
 import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
 import sample.cafekiosk.spring.domain.product.ProductType;
@@ -22,20 +25,38 @@ import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
 
 class ProductServiceTest extends IntegrationTestSupport {
 
-    @Autowired
     ProductService productService;
 
     @Autowired
     ProductRepository productRepository;
 
+    @Autowired
+    ProductNumberSequenceRepository productNumberSequenceRepository;
+
+    @Autowired
+    SellingProductCatalog sellingProductCatalog;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
     @BeforeAll
     static void beforeAll() {
 
     }
 
+    // 테스트 프로필은 번호 구간을 1로 두지만, 등록은 운영과 같은 구간 크기로 확인한다.
+    // 구간은 노드의 메모리에 남으므로 테스트마다 새 ProductNumberFactory를 쓴다.
+    @BeforeEach
+    void setUp() {
+        ProductNumberFactory productNumberFactory = new ProductNumberFactory(
+                productRepository, productNumberSequenceRepository, transactionManager, 100);
+        productService = new ProductService(productRepository, productNumberFactory, sellingProductCatalog);
+    }
+
     @AfterEach
     void tearDown() {
         productRepository.deleteAllInBatch();
+        productNumberSequenceRepository.deleteAllInBatch();
     }
 
     @Test
@@ -98,6 +119,32 @@ class ProductServiceTest extends IntegrationTestSupport {
 
     }
 
+    @Test
+    @DisplayName("신규 상품을 등록하면 상품번호 조회의 쿼리 캐시가 무효화되어 새 상품도 조회된다.")
+    void createProductInvalidatesQueryCache() {
+        // given
+        productRepository.save(createProductBuilder());
+        assertThat(productRepository.findAllByProductNumberIn(List.of("001", "002"))).hasSize(1);
+
+        ProductCreateRequest request = ProductCreateRequest.builder()
+                .type(HANDMADE)
+                .sellingStatus(SELLING)
+                .name("카푸치노")
+                .price(5000)
+                .build();
+
+        // when
+        productService.createProduct(request.toServiceRequest());
+
+        //then
+        assertThat(productRepository.findAllByProductNumberIn(List.of("001", "002"))).hasSize(2)
+                .extracting("productNumber", "name")
+                .containsExactlyInAnyOrder(
+                        Tuple.tuple("001", "아메리카노"),
+                        Tuple.tuple("002", "카푸치노")
+                );
+    }
+
     private Product createProductBuilder() {
         return Product.builder()
                 .productNumber("001")
@@ -0,0 +1,147 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.product.request.ProductCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.product.response.ProductCatalogSnapshot;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductNumberSequenceRepository;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.*;
+
+class SellingProductCatalogTest extends IntegrationTestSupport {
+
+    @Autowired
+    private SellingProductCatalog sellingProductCatalog;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductNumberSequenceRepository productNumberSequenceRepository;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch();
+        productNumberSequenceRepository.deleteAllInBatch();
+        sellingProductCatalog.evict();
+    }
+
+    @Test
+    @DisplayName("판매 상품 목록을 한 번 읽으면 이후 조회는 캐시된 목록을 그대로 돌려준다.")
+    void get() {
+        // given
+        productRepository.saveAll(List.of(
+                createProduct("001", SELLING),
+                createProduct("002", HOLD),
+                createProduct("003", STOP_SELLING)
+        ));
+        long hitCount = sellingProductCatalog.getHitCount();
+        long missCount = sellingProductCatalog.getMissCount();
+
+        // when
+        ProductCatalogSnapshot first = sellingProductCatalog.get();
+        ProductCatalogSnapshot second = sellingProductCatalog.get();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getProducts()).hasSize(2)
+                .extracting("productNumber")
+                .containsExactlyInAnyOrder("001", "002");
+        assertThat(sellingProductCatalog.getMissCount()).isEqualTo(missCount + 1);
+        assertThat(sellingProductCatalog.getHitCount()).isEqualTo(hitCount + 1);
+    }
+
+    @Test
+    @DisplayName("신규 상품 등록이 커밋되면 캐시를 비우고, 다음 조회에서 새 상품이 포함된다.")
+    void evictWhenProductCreated() {
+        // given
+        productRepository.save(createProduct("001", SELLING));
+        ProductCatalogSnapshot before = sellingProductCatalog.get();
+        long evictionCount = sellingProductCatalog.getEvictionCount();
+
+        ProductCreateServiceRequest request = ProductCreateServiceRequest.builder()
+                .type(ProductType.HANDMADE)
+                .sellingStatus(SELLING)
+                .name("카푸치노")
+                .price(5000)
+                .build();
+
+        // when
+        productService.createProduct(request);
+        ProductCatalogSnapshot after = sellingProductCatalog.get();
+
+        // then
+        assertThat(sellingProductCatalog.getEvictionCount()).isEqualTo(evictionCount + 1);
+        assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+        assertThat(after.getProducts()).hasSize(2)
+                .extracting("name")
+                .containsExactlyInAnyOrder("메뉴 이름", "카푸치노");
+    }
+
+    @Test
+    @DisplayName("다시 읽는 중에 캐시를 비워도, 비우기 전에 읽은 목록이 캐시에 남지 않는다.")
+    void evictWhileLoading() throws Exception {
+        // given
+        ProductRepository emptyRepository = mock(ProductRepository.class);
+        given(emptyRepository.findAllBySellingStatusIn(any())).willReturn(List.of());
+        SellingProductCatalog catalog = new SellingProductCatalog(emptyRepository, new ObjectMapper(), new SimpleMeterRegistry());
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        int rounds = 2000;
+
+        for (int i = 0; i < rounds; i++) {
+            catalog.evict();
+            CyclicBarrier barrier = new CyclicBarrier(2);
+
+            // when
+            Future<?> loading = executorService.submit(() -> {
+                barrier.await();
+                return catalog.get();
+            });
+            Future<?> evicting = executorService.submit(() -> {
+                barrier.await();
+                catalog.evict();
+                return null;
+            });
+            loading.get(5, TimeUnit.SECONDS);
+            evicting.get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(catalog.get().getVersion()).isEqualTo(catalog.getVersion());
+        }
+        executorService.shutdown();
+    }
+
+    private Product createProduct(String productNumber, ProductSellingStatus sellingStatus) {
+        return Product.builder()
+                .productNumber(productNumber)
+                .type(ProductType.HANDMADE)
+                .sellingStatus(sellingStatus)
+                .name("메뉴 이름")
+                .price(4000)
+                .build();
+    }
+
+}
@@ -0,0 +1,153 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.domain.sales.DailySalesRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static sample.cafekiosk.spring.domain.order.OrderStatus.*;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+
+class DailySalesServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private DailySalesService dailySalesService;
+
+    @Autowired
+    private DailySalesRepository dailySalesRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        dailySalesRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("결제완료 상태로 저장된 주문만 주문일의 매출에 더해진다.")
+    void addSalesWhenPaymentCompletedOrderCreated() {
+        // given
+        List<Product> products = productRepository.saveAll(List.of(createProduct("001", 1000), createProduct("002", 2000)));
+
+        // when
+        createOrder(LocalDateTime.of(2023, 11, 5, 10, 0), PAYMENT_COMPLETED, products);
+        createOrder(LocalDateTime.of(2023, 11, 5, 23, 59, 59), PAYMENT_COMPLETED, products);
+        createOrder(LocalDateTime.of(2023, 11, 5, 12, 0), INIT, products);
+        createOrder(LocalDateTime.of(2023, 11, 6, 0, 0), PAYMENT_COMPLETED, products);
+
+        // then
+        assertThat(dailySalesService.getTotalAmount(LocalDate.of(2023, 11, 5))).isEqualTo(6000);
+        assertThat(dailySalesService.getTotalAmount(LocalDate.of(2023, 11, 6))).isEqualTo(3000);
+        assertThat(dailySalesService.getTotalAmount(LocalDate.of(2023, 11, 7))).isZero();
+    }
+
+    @Test
+    @DisplayName("주문이 결제완료 상태가 되면 매출에 더하고, 결제완료 상태에서 벗어나면 매출에서 뺀다.")
+    void addSalesWhenOrderStatusChanged() {
+        // given
+        List<Product> products = productRepository.saveAll(List.of(createProduct("001", 1000)));
+        Order order = createOrder(LocalDateTime.of(2023, 11, 5, 10, 0), INIT, products);
+
+        // when
+        changeOrderStatus(order.getId(), PAYMENT_COMPLETED);
+        long afterPayment = dailySalesService.getTotalAmount(LocalDate.of(2023, 11, 5));
+        changeOrderStatus(order.getId(), PAYMENT_COMPLETED);
+        long afterSameStatus = dailySalesService.getTotalAmount(LocalDate.of(2023, 11, 5));
+        changeOrderStatus(order.getId(), CANCELED);
+        long afterCancel = dailySalesService.getTotalAmount(LocalDate.of(2023, 11, 5));
+
+        // then
+        assertThat(afterPayment).isEqualTo(1000);
+        assertThat(afterSameStatus).isEqualTo(1000);
+        assertThat(afterCancel).isZero();
+    }
+
+    @Test
+    @DisplayName("기간의 일자별 매출을 주문 이력으로 다시 만든다.")
+    void rebuild() {
+        // given
+        List<Product> products = productRepository.saveAll(List.of(createProduct("001", 1000), createProduct("002", 2000)));
+        createOrder(LocalDateTime.of(2023, 11, 4, 23, 59, 59), PAYMENT_COMPLETED, products);
+        createOrder(LocalDateTime.of(2023, 11, 5, 10, 0), PAYMENT_COMPLETED, products);
+        createOrder(LocalDateTime.of(2023, 11, 5, 11, 0), PAYMENT_COMPLETED, products);
+        createOrder(LocalDateTime.of(2023, 11, 6, 9, 0), PAYMENT_COMPLETED, products);
+        dailySalesRepository.deleteAllInBatch();
+
+        // when
+        int rebuiltCount = dailySalesService.rebuild(LocalDate.of(2023, 11, 4), LocalDate.of(2023, 11, 5));
+
+        // then
+        assertThat(rebuiltCount).isEqualTo(2);
+        assertThat(dailySalesRepository.findAll())
+                .extracting("salesDate", "totalAmount", "orderCount")
+                .containsExactlyInAnyOrder(
+                        Tuple.tuple(LocalDate.of(2023, 11, 4), 3000L, 1),
+                        Tuple.tuple(LocalDate.of(2023, 11, 5), 6000L, 2)
+                );
+    }
+
+    @Test
+    @DisplayName("다시 만들 기간의 시작일이 종료일보다 늦으면 예외가 발생한다.")
+    void rebuildWithInvalidPeriod() {
+        // when // then
+        assertThatThrownBy(() -> dailySalesService.rebuild(LocalDate.of(2023, 11, 6), LocalDate.of(2023, 11, 5)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("시작일은 종료일보다 늦을 수 없습니다.");
+    }
+
+    private Order createOrder(LocalDateTime registeredDateTime, OrderStatus orderStatus, List<Product> products) {
+        Order order = Order.builder()
+                .products(products)
+                .orderStatus(orderStatus)
+                .registeredDateTime(registeredDateTime)
+                .build();
+        return orderRepository.save(order);
+    }
+
+    private void changeOrderStatus(Long orderId, OrderStatus orderStatus) {
+        transactionTemplate.executeWithoutResult(status ->
+                orderRepository.findById(orderId).orElseThrow().changeOrderStatus(orderStatus)
+        );
+    }
+
+    private Product createProduct(String productNumber, int price) {
+        return Product.builder()
+                .type(ProductType.HANDMADE)
+                .productNumber(productNumber)
+                .price(price)
+                .sellingStatus(SELLING)
+                .name("메뉴 이름")
+                .build();
+    }
+
+}
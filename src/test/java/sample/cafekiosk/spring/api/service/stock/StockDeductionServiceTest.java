@@ -0,0 +1,184 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+import sample.cafekiosk.spring.domain.stock.StockReservationRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StockDeductionServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private StockDeductionService stockDeductionService;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private StockReservationLedger stockReservationLedger;
+
+    @Autowired
+    private StockReservationFlusher stockReservationFlusher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        stockRepository.deleteAllInBatch();
+        stockReservationRepository.deleteAllInBatch();
+        stockReservationLedger.clear();
+    }
+
+    @Test
+    @DisplayName("상품번호별 수량만큼 재고를 차감한다.")
+    void deductStockQuantities() {
+        // given
+        stockRepository.saveAll(List.of(Stock.create("001", 2), Stock.create("002", 2)));
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                stockDeductionService.deductStockQuantities(Map.of("001", 2, "002", 1))
+        );
+
+        // then
+        assertThat(stockRepository.findAll()).hasSize(2)
+                .extracting("productNumber", "quantity")
+                .containsExactlyInAnyOrder(
+                        Tuple.tuple("001", 0),
+                        Tuple.tuple("002", 1)
+                );
+    }
+
+    @ParameterizedTest
+    @EnumSource(StockDeductionMode.class)
+    @DisplayName("재고가 부족한 상품이 하나라도 있으면 예외가 발생하고, 다른 상품의 재고도 차감되지 않는다.")
+    void deductStockQuantitiesWithNotEnoughStock(StockDeductionMode mode) {
+        // given
+        stockRepository.saveAll(List.of(Stock.create("001", 2), Stock.create("002", 1)));
+        StockDeductionService service = new StockDeductionService(stockRepository, stockReservationLedger, mode, 10);
+
+        // when // then
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+                service.deductStockQuantities(Map.of("001", 1, "002", 2))
+        ))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("재고가 부족한 상품이 있습니다.");
+
+        assertThat(stockRepository.findAll())
+                .extracting("productNumber", "quantity")
+                .containsExactlyInAnyOrder(
+                        Tuple.tuple("001", 2),
+                        Tuple.tuple("002", 1)
+                );
+    }
+
+    @ParameterizedTest
+    @EnumSource(StockDeductionMode.class)
+    @DisplayName("여러 주문의 재고를 한 번에 차감하면 요청 순서대로 배정하고, 재고가 부족한 주문만 건너뛴다.")
+    void deductStockQuantitiesEach(StockDeductionMode mode) {
+        // given
+        stockRepository.saveAll(List.of(Stock.create("001", 3), Stock.create("002", 1)));
+        StockDeductionService service = new StockDeductionService(stockRepository, stockReservationLedger, mode, 10);
+
+        // when
+        List<Boolean> deducted = transactionTemplate.execute(status -> service.deductStockQuantitiesEach(List.of(
+                Map.of("001", 2),
+                Map.of("001", 2),
+                Map.of("001", 1, "002", 1),
+                Map.of("002", 1),
+                Map.of("003", 1),
+                Map.of()
+        )));
+        stockReservationFlusher.flush();
+
+        // then
+        assertThat(deducted).containsExactly(true, false, true, false, false, true);
+        assertThat(stockRepository.findAll())
+                .extracting("productNumber", "quantity")
+                .containsExactlyInAnyOrder(
+                        Tuple.tuple("001", 0),
+                        Tuple.tuple("002", 0)
+                );
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = StockDeductionMode.class, names = {"ATOMIC", "OPTIMISTIC", "LEDGER"})
+    @DisplayName("동시에 많은 주문이 같은 상품의 재고를 차감해도 재고보다 많이 팔리지 않는다.")
+    void deductStockQuantitiesConcurrently(StockDeductionMode mode) throws InterruptedException {
+        // given
+        int stockQuantity = 100;
+        int threadCount = 16;
+        int ordersPerThread = 25;
+        stockRepository.saveAll(List.of(Stock.create("001", stockQuantity), Stock.create("002", stockQuantity)));
+        StockDeductionService service = new StockDeductionService(stockRepository, stockReservationLedger, mode, 100);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger soldOutCount = new AtomicInteger();
+
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < ordersPerThread; j++) {
+                        try {
+                            transactionTemplate.executeWithoutResult(status ->
+                                    service.deductStockQuantities(Map.of("001", 1, "002", 1))
+                            );
+                            successCount.incrementAndGet();
+                        } catch (IllegalArgumentException e) {
+                            soldOutCount.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        // when
+        startLatch.countDown();
+        boolean completed = doneLatch.await(60, TimeUnit.SECONDS);
+        executorService.shutdownNow();
+        stockReservationFlusher.flush();
+
+        // then
+        int totalOrders = threadCount * ordersPerThread;
+        assertThat(completed).isTrue();
+        assertThat(successCount.get()).isEqualTo(stockQuantity);
+        assertThat(soldOutCount.get()).isEqualTo(totalOrders - stockQuantity);
+        assertThat(stockRepository.findAll())
+                .extracting("productNumber", "quantity")
+                .containsExactlyInAnyOrder(
+                        Tuple.tuple("001", 0),
+                        Tuple.tuple("002", 0)
+                );
+    }
+
+}
@@ -0,0 +1,142 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+import sample.cafekiosk.spring.domain.stock.StockReservation;
+import sample.cafekiosk.spring.domain.stock.StockReservationRepository;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StockReservationLedgerTest extends IntegrationTestSupport {
+
+    @Autowired
+    private StockReservationLedger stockReservationLedger;
+
+    @Autowired
+    private StockReservationFlusher stockReservationFlusher;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        stockRepository.deleteAllInBatch();
+        stockReservationRepository.deleteAllInBatch();
+        stockReservationLedger.clear();
+    }
+
+    @Test
+    @DisplayName("재고를 예약하면 메모리 원장에서 바로 차감되고, 재고 테이블에는 반영 전까지 그대로 남는다.")
+    void reserve() {
+        // given
+        stockRepository.saveAll(List.of(Stock.create("001", 3)));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> stockReservationLedger.reserve(Map.of("001", 2)));
+
+        // then
+        assertThat(stockReservationLedger.isQuantityLessThan("001", 2)).isTrue();
+        assertThat(stockReservationLedger.isQuantityLessThan("001", 1)).isFalse();
+        assertThat(stockRepository.findAll())
+                .extracting("productNumber", "quantity")
+                .containsExactly(Tuple.tuple("001", 3));
+        assertThat(stockReservationRepository.findAll())
+                .extracting("productNumber", "quantity")
+                .containsExactly(Tuple.tuple("001", 2));
+    }
+
+    @Test
+    @DisplayName("예약한 트랜잭션이 롤백되면 메모리 원장의 수량도 되돌린다.")
+    void reserveWithRollback() {
+        // given
+        stockRepository.saveAll(List.of(Stock.create("001", 3)));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            stockReservationLedger.reserve(Map.of("001", 3));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(stockReservationLedger.isQuantityLessThan("001", 3)).isFalse();
+        assertThat(stockReservationRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("예약 가능한 수량보다 많이 예약하면 예외가 발생한다.")
+    void reserveWithNotEnoughStock() {
+        // given
+        stockRepository.saveAll(List.of(Stock.create("001", 1), Stock.create("002", 5)));
+
+        // when // then
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+                stockReservationLedger.reserve(Map.of("001", 2, "002", 1))
+        ))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("재고가 부족한 상품이 있습니다.");
+
+        assertThat(stockReservationLedger.isQuantityLessThan("002", 5)).isFalse();
+    }
+
+    @Test
+    @DisplayName("쌓인 예약을 상품번호별로 합산해서 재고 테이블에 반영한다.")
+    void flush() {
+        // given
+        stockRepository.saveAll(List.of(Stock.create("001", 10), Stock.create("002", 10)));
+        transactionTemplate.executeWithoutResult(status -> stockReservationLedger.reserve(Map.of("001", 2, "002", 1)));
+        transactionTemplate.executeWithoutResult(status -> stockReservationLedger.reserve(Map.of("001", 3)));
+
+        // when
+        int flushedCount = stockReservationFlusher.flush();
+
+        // then
+        assertThat(flushedCount).isEqualTo(3);
+        assertThat(stockReservationRepository.findAll()).isEmpty();
+        assertThat(stockRepository.findAll())
+                .extracting("productNumber", "quantity")
+                .containsExactlyInAnyOrder(
+                        Tuple.tuple("001", 5),
+                        Tuple.tuple("002", 9)
+                );
+    }
+
+    @Test
+    @DisplayName("반영되지 않은 예약이 남아 있으면 원장은 그만큼 뺀 수량부터 시작하고, 기동 시 재고에 반영한다.")
+    void reconcile() {
+        // given
+        stockRepository.saveAll(List.of(Stock.create("001", 10)));
+        stockReservationRepository.saveAll(List.of(
+                StockReservation.create("001", 4),
+                StockReservation.create("001", 1)
+        ));
+
+        // when
+        boolean lessThanSix = stockReservationLedger.isQuantityLessThan("001", 6);
+        stockReservationFlusher.reconcile();
+
+        // then
+        assertThat(lessThanSix).isTrue();
+        assertThat(stockReservationLedger.isQuantityLessThan("001", 5)).isFalse();
+        assertThat(stockRepository.findAll())
+                .extracting("productNumber", "quantity")
+                .containsExactly(Tuple.tuple("001", 5));
+    }
+
+}
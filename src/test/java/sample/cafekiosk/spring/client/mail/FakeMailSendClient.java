@@ -0,0 +1,49 @@
+package sample.cafekiosk.spring.client.mail;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실제 메일 서버 대신 쓰는 테스트용 MailSendClient. 보낸 메일을 기록하고, 지정한 횟수만큼은 전송에 실패한다.
+ */
+public class FakeMailSendClient extends MailSendClient {
+
+    private final AtomicInteger remainingFailures = new AtomicInteger();
+
+    @Getter
+    private final List<SentMail> sentMails = new CopyOnWriteArrayList<>();
+
+    public void failNext(int count) {
+        remainingFailures.set(count);
+    }
+
+    @Override
+    public boolean sendEmail(String fromEmail, String toEmail, String subject, String content) {
+        if (remainingFailures.getAndUpdate(count -> Math.max(count - 1, 0)) > 0) {
+            throw new IllegalStateException("메일 서버 응답 없음");
+        }
+        sentMails.add(new SentMail(fromEmail, toEmail, subject, content));
+        return true;
+    }
+
+    @Getter
+    public static class SentMail {
+
+        private final String fromEmail;
+        private final String toEmail;
+        private final String subject;
+        private final String content;
+
+        private SentMail(String fromEmail, String toEmail, String subject, String content) {
+            this.fromEmail = fromEmail;
+            this.toEmail = toEmail;
+            this.subject = subject;
+            this.content = content;
+        }
+
+    }
+
+}
@@ -3,37 +3,54 @@ package sample.cafekiosk.spring.docs.product;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.MvcResult;
 import sample.cafekiosk.spring.api.controller.order.OrderController;
+import sample.cafekiosk.spring.api.controller.order.request.OrderBatchCreateRequest;
 import sample.cafekiosk.spring.api.controller.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.controller.order.response.OrderBatchResponse;
+import sample.cafekiosk.spring.api.controller.order.response.OrderBatchResult;
+import sample.cafekiosk.spring.api.controller.order.response.OrderPageResponse;
 import sample.cafekiosk.spring.api.controller.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.controller.order.response.OrderSummaryResponse;
+import sample.cafekiosk.spring.api.service.order.OrderCreateExecutor;
 import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.request.OrderBatchCreateServiceRequest;
 import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
 import sample.cafekiosk.spring.docs.RestDocsSupport;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
 import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
 import sample.cafekiosk.spring.domain.product.ProductType;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 public class OrderControllerDocsTest extends RestDocsSupport {
 
     private final OrderService orderService = mock(OrderService.class);
 
+    private final OrderCreateExecutor orderCreateExecutor = mock(OrderCreateExecutor.class);
+
     @Override
     protected Object initController() {
-        return new OrderController(orderService);
+        return new OrderController(orderService, orderCreateExecutor);
     }
 
     @Test
@@ -63,21 +80,26 @@ public class OrderControllerDocsTest extends RestDocsSupport {
         List<ProductResponse> productResponses = List.of(productResponse1, productResponse2);
 
         // stubbing
-        given(orderService.createOrder(any(OrderCreateServiceRequest.class), any(LocalDateTime.class)))
-                .willReturn(
+        given(orderCreateExecutor.submit(any(OrderCreateServiceRequest.class), any(LocalDateTime.class)))
+                .willReturn(CompletableFuture.completedFuture(
                         OrderResponse.builder()
                                 .id(1L)
                                 .totalPrice(8500)
                                 .registeredDateTime(LocalDateTime.now())
                                 .products(productResponses)
                                 .build()
-                );
+                ));
 
-        mockMvc.perform(
+        // 주문 등록은 비동기로 처리되므로 결과를 받은 뒤 다시 dispatch한 응답을 문서로 만든다.
+        MvcResult mvcResult = mockMvc.perform(
                         post("/api/v1/orders/new")
                                 .content(objectMapper.writeValueAsString(request))
                                 .contentType(APPLICATION_JSON)
                 )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andDo(document(
@@ -121,4 +143,232 @@ public class OrderControllerDocsTest extends RestDocsSupport {
                 ));
     }
 
+    @Test
+    @DisplayName("여러 주문을 한 번에 등록하는 API")
+    void createOrders() throws Exception {
+
+        OrderBatchCreateRequest request = OrderBatchCreateRequest.builder()
+                .orders(List.of(
+                        OrderCreateRequest.builder().productNumbers(List.of("001")).build(),
+                        OrderCreateRequest.builder().productNumbers(List.of("002")).build()
+                ))
+                .build();
+
+        ProductResponse productResponse = ProductResponse.builder()
+                .id(1L)
+                .productNumber("001")
+                .type(ProductType.HANDMADE)
+                .sellingStatus(ProductSellingStatus.SELLING)
+                .name("아메리카노")
+                .price(4000)
+                .build();
+
+        // stubbing
+        given(orderService.createOrders(any(OrderBatchCreateServiceRequest.class), any(LocalDateTime.class)))
+                .willReturn(OrderBatchResponse.of(List.of(
+                        OrderBatchResult.success(0, OrderResponse.builder()
+                                .id(1L)
+                                .totalPrice(4000)
+                                .registeredDateTime(LocalDateTime.now())
+                                .products(List.of(productResponse))
+                                .build()),
+                        OrderBatchResult.failure(1, "재고가 부족한 상품이 있습니다.")
+                )));
+
+        mockMvc.perform(
+                        post("/api/v1/orders/batch")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andDo(document(
+                        "order-batch-create",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        requestFields(
+                                fieldWithPath("orders").type(JsonFieldType.ARRAY)
+                                        .description("주문 리스트 (최대 1000건)"),
+                                fieldWithPath("orders[].productNumbers").type(JsonFieldType.ARRAY)
+                                        .description("상품 번호 리스트")
+                        ),
+                        responseFields(
+                                fieldWithPath("code").type(JsonFieldType.NUMBER)
+                                        .description("코드"),
+                                fieldWithPath("status").type(JsonFieldType.STRING)
+                                        .description("상태"),
+                                fieldWithPath("message").type(JsonFieldType.STRING)
+                                        .description("메세지"),
+                                fieldWithPath("data").type(JsonFieldType.OBJECT)
+                                        .description("응답 데이터"),
+                                fieldWithPath("data.successCount").type(JsonFieldType.NUMBER)
+                                        .description("등록된 주문 수"),
+                                fieldWithPath("data.failureCount").type(JsonFieldType.NUMBER)
+                                        .description("실패한 주문 수"),
+                                fieldWithPath("data.results").type(JsonFieldType.ARRAY)
+                                        .description("주문별 처리 결과 (요청 순서)"),
+                                fieldWithPath("data.results[].index").type(JsonFieldType.NUMBER)
+                                        .description("요청 리스트에서의 위치"),
+                                fieldWithPath("data.results[].success").type(JsonFieldType.BOOLEAN)
+                                        .description("등록 여부"),
+                                fieldWithPath("data.results[].message").type(JsonFieldType.STRING)
+                                        .description("실패 사유").optional(),
+                                fieldWithPath("data.results[].order").type(JsonFieldType.OBJECT)
+                                        .description("등록된 주문").optional(),
+                                fieldWithPath("data.results[].order.id").type(JsonFieldType.NUMBER)
+                                        .description("주문 아이디").optional(),
+                                fieldWithPath("data.results[].order.totalPrice").type(JsonFieldType.NUMBER)
+                                        .description("주문 가격").optional(),
+                                fieldWithPath("data.results[].order.registeredDateTime").type(JsonFieldType.ARRAY)
+                                        .description("주문 시간").optional(),
+                                fieldWithPath("data.results[].order.products").type(JsonFieldType.ARRAY)
+                                        .description("주문 상품").optional(),
+                                fieldWithPath("data.results[].order.products[].id").type(JsonFieldType.NUMBER)
+                                        .description("상품 아이디").optional(),
+                                fieldWithPath("data.results[].order.products[].productNumber").type(JsonFieldType.STRING)
+                                        .description("상품 번호").optional(),
+                                fieldWithPath("data.results[].order.products[].type").type(JsonFieldType.STRING)
+                                        .description("상품 타입").optional(),
+                                fieldWithPath("data.results[].order.products[].sellingStatus").type(JsonFieldType.STRING)
+                                        .description("상품 판매상태").optional(),
+                                fieldWithPath("data.results[].order.products[].name").type(JsonFieldType.STRING)
+                                        .description("상품 이름").optional(),
+                                fieldWithPath("data.results[].order.products[].price").type(JsonFieldType.NUMBER)
+                                        .description("상품 가격").optional()
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("주문을 조회하는 API")
+    void getOrder() throws Exception {
+
+        // stubbing
+        given(orderService.getOrder(1L))
+                .willReturn(createOrderResponse());
+
+        mockMvc.perform(
+                        get("/api/v1/orders/{orderId}", 1L)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andDo(document(
+                        "order-get",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        pathParameters(
+                                parameterWithName("orderId").description("주문 아이디")
+                        ),
+                        responseFields(
+                                fieldWithPath("code").type(JsonFieldType.NUMBER)
+                                        .description("코드"),
+                                fieldWithPath("status").type(JsonFieldType.STRING)
+                                        .description("상태"),
+                                fieldWithPath("message").type(JsonFieldType.STRING)
+                                        .description("메세지"),
+                                fieldWithPath("data").type(JsonFieldType.OBJECT)
+                                        .description("응답 데이터"),
+                                fieldWithPath("data.id").type(JsonFieldType.NUMBER)
+                                        .description("주문 아이디"),
+                                fieldWithPath("data.totalPrice").type(JsonFieldType.NUMBER)
+                                        .description("주문 가격"),
+                                fieldWithPath("data.registeredDateTime").type(JsonFieldType.ARRAY)
+                                        .description("주문 시간"),
+                                fieldWithPath("data.products").type(JsonFieldType.ARRAY)
+                                        .description("주문 상품"),
+                                fieldWithPath("data.products[].id").type(JsonFieldType.NUMBER)
+                                        .description("상품 아이디"),
+                                fieldWithPath("data.products[].productNumber").type(JsonFieldType.STRING)
+                                        .description("상품 번호"),
+                                fieldWithPath("data.products[].type").type(JsonFieldType.STRING)
+                                        .description("상품 타입"),
+                                fieldWithPath("data.products[].sellingStatus").type(JsonFieldType.STRING)
+                                        .description("상품 판매상태"),
+                                fieldWithPath("data.products[].name").type(JsonFieldType.STRING)
+                                        .description("상품 이름"),
+                                fieldWithPath("data.products[].price").type(JsonFieldType.NUMBER)
+                                        .description("상품 가격")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("주문 목록을 최근 주문부터 커서 기반으로 조회하는 API")
+    void getOrders() throws Exception {
+
+        // stubbing
+        given(orderService.getOrders(any(), any(), anyInt()))
+                .willReturn(OrderPageResponse.builder()
+                        .orders(List.of(OrderSummaryResponse.builder()
+                                .id(15L)
+                                .orderStatus(OrderStatus.PAYMENT_COMPLETED)
+                                .totalPrice(8500)
+                                .registeredDateTime(LocalDateTime.of(2023, 11, 6, 10, 0))
+                                .build()))
+                        .size(1)
+                        .hasNext(true)
+                        .nextCursor("MjAyMy0xMS0wNlQxMDowMF8xNQ")
+                        .build());
+
+        mockMvc.perform(
+                        get("/api/v1/orders")
+                                .queryParam("status", "PAYMENT_COMPLETED")
+                                .queryParam("size", "1")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andDo(document(
+                        "order-list",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        requestParameters(
+                                parameterWithName("status").description("주문 상태 (없으면 전체)").optional(),
+                                parameterWithName("cursor").description("이전 페이지 응답의 nextCursor (없으면 첫 페이지)").optional(),
+                                parameterWithName("size").description("페이지 크기 (1 ~ 100, 기본값 20)").optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("code").type(JsonFieldType.NUMBER)
+                                        .description("코드"),
+                                fieldWithPath("status").type(JsonFieldType.STRING)
+                                        .description("상태"),
+                                fieldWithPath("message").type(JsonFieldType.STRING)
+                                        .description("메세지"),
+                                fieldWithPath("data").type(JsonFieldType.OBJECT)
+                                        .description("응답 데이터"),
+                                fieldWithPath("data.size").type(JsonFieldType.NUMBER)
+                                        .description("페이지 크기"),
+                                fieldWithPath("data.hasNext").type(JsonFieldType.BOOLEAN)
+                                        .description("다음 페이지 존재 여부"),
+                                fieldWithPath("data.nextCursor").type(JsonFieldType.STRING)
+                                        .description("다음 페이지 커서 (마지막 페이지면 null)").optional(),
+                                fieldWithPath("data.orders").type(JsonFieldType.ARRAY)
+                                        .description("주문 리스트 (최근 주문부터)"),
+                                fieldWithPath("data.orders[].id").type(JsonFieldType.NUMBER)
+                                        .description("주문 아이디"),
+                                fieldWithPath("data.orders[].orderStatus").type(JsonFieldType.STRING)
+                                        .description("주문 상태"),
+                                fieldWithPath("data.orders[].totalPrice").type(JsonFieldType.NUMBER)
+                                        .description("주문 가격"),
+                                fieldWithPath("data.orders[].registeredDateTime").type(JsonFieldType.ARRAY)
+                                        .description("주문 시간")
+                        )
+                ));
+    }
+
+    private OrderResponse createOrderResponse() {
+        return OrderResponse.builder()
+                .id(1L)
+                .totalPrice(4000)
+                .registeredDateTime(LocalDateTime.of(2023, 11, 6, 10, 0))
+                .products(List.of(ProductResponse.builder()
+                        .id(1L)
+                        .productNumber("001")
+                        .type(ProductType.HANDMADE)
+                        .sellingStatus(ProductSellingStatus.SELLING)
+                        .name("아메리카노")
+                        .price(4000)
+                        .build()))
+                .build();
+    }
+
 }
@@ -7,6 +7,7 @@ import sample.cafekiosk.spring.api.controller.product.ProductController;
 import sample.cafekiosk.spring.api.controller.product.dto.request.ProductCreateRequest;
 import sample.cafekiosk.spring.api.service.product.ProductService;
 import sample.cafekiosk.spring.api.service.product.request.ProductCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.product.response.ProductCatalogSnapshot;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
 import sample.cafekiosk.spring.docs.RestDocsSupport;
 import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
@@ -124,8 +125,8 @@ public class ProductControllerDocsTest extends RestDocsSupport {
                 .build();
         List<ProductResponse> productResponses = List.of(productResponse1, productResponse2);
         // stubbing
-        given(productService.getSellingProducts())
-                .willReturn(productResponses);
+        given(productService.getSellingProductCatalog())
+                .willReturn(ProductCatalogSnapshot.of(1L, productResponses, objectMapper));
 
         mockMvc.perform(
                         get("/api/v1/products/selling")
@@ -0,0 +1,119 @@
+package sample.cafekiosk.spring.domain.order;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+
+/**
+ * 상품 10개짜리 주문을 한 건씩 저장할 때의 초당 처리량과 주문당 SQL 실행 횟수를 잰다.
+ * jdbcBatchSize 1은 배치를 쓰지 않던 IDENTITY 전략과 같은 왕복 횟수(주문 1 + 주문상품 10)가 된다.
+ * ./gradlew benchmark 로 실행한다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TestPropertySource(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class OrderInsertBenchmarkTest extends IntegrationTestSupport {
+
+    private static final int ITEMS_PER_ORDER = 10;
+    private static final int WARMUP_ORDERS = 500;
+    private static final int MEASURED_ORDERS = 5_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100})
+    @DisplayName("상품 10개짜리 주문을 저장하는 처리량을 JDBC 배치 크기별로 측정한다.")
+    void insertOrders(int jdbcBatchSize) {
+        // given
+        List<Product> products = productRepository.saveAll(IntStream.rangeClosed(1, ITEMS_PER_ORDER)
+                .mapToObj(i -> createProduct(String.format("%03d", i)))
+                .collect(Collectors.toList()));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        insertOrders(products, jdbcBatchSize, WARMUP_ORDERS);
+        statistics.clear();
+
+        // when
+        long startNanos = System.nanoTime();
+        insertOrders(products, jdbcBatchSize, MEASURED_ORDERS);
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        // then
+        System.out.printf(">>> [jdbcBatchSize=%d] 주문 %d건, %.1f orders/s, 주문당 SQL %.2f회%n",
+                jdbcBatchSize, MEASURED_ORDERS,
+                MEASURED_ORDERS / (elapsedNanos / 1_000_000_000.0),
+                (double) statistics.getPrepareStatementCount() / MEASURED_ORDERS);
+
+        assertThat(orderRepository.count()).isEqualTo(WARMUP_ORDERS + MEASURED_ORDERS);
+    }
+
+    private void insertOrders(List<Product> products, int jdbcBatchSize, int orderCount) {
+        for (int i = 0; i < orderCount; i++) {
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+                orderRepository.save(Order.create(products, LocalDateTime.now()));
+            });
+        }
+    }
+
+    private Product createProduct(String productNumber) {
+        return Product.builder()
+                .type(ProductType.HANDMADE)
+                .productNumber(productNumber)
+                .price(1000)
+                .sellingStatus(SELLING)
+                .name("메뉴 이름")
+                .build();
+    }
+
+}
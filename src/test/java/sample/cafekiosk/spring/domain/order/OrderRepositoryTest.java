@@ -5,6 +5,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 import sample.cafekiosk.spring.IntegrationTestSupport;
 import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
@@ -31,6 +32,9 @@ class OrderRepositoryTest extends IntegrationTestSupport {
     @Autowired
     private OrderProductRepository orderProductRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @AfterEach
     void tearDown() {
         orderProductRepository.deleteAllInBatch();
@@ -57,7 +61,7 @@ class OrderRepositoryTest extends IntegrationTestSupport {
         assertThat(orders).hasSize(1)
                 .extracting("orderStatus", "totalPrice", "registeredDateTime")
                 .contains(Tuple.tuple(
-                        OrderStatus.INIT, 4000, registeredDateTime)
+                        OrderStatus.INIT, 4000L, registeredDateTime)
                 );
     }
 
@@ -80,6 +84,154 @@ class OrderRepositoryTest extends IntegrationTestSupport {
         assertThat(orders).isEmpty();
     }
 
+    @Test
+    @DisplayName("주문시간 범위와 주문상태로 매출 합계와 주문 수를 집계한다.")
+    void summarizeOrdersBy() {
+        // given
+        List<Product> products = productRepository.saveAll(List.of(
+                createProduct("001", ProductType.HANDMADE, 4000),
+                createProduct("002", ProductType.BAKERY, 3000)
+        ));
+        orderRepository.saveAll(List.of(
+                createOrder(products, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 11, 5, 0, 0)),
+                createOrder(products, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 11, 5, 23, 59, 59)),
+                createOrder(products, OrderStatus.INIT, LocalDateTime.of(2023, 11, 5, 12, 0)),
+                createOrder(products, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 11, 6, 0, 0))
+        ));
+
+        // when
+        OrderSalesSummary summary = orderRepository.summarizeOrdersBy(
+                LocalDateTime.of(2023, 11, 5, 0, 0),
+                LocalDateTime.of(2023, 11, 6, 0, 0),
+                OrderStatus.PAYMENT_COMPLETED
+        );
+
+        // then
+        assertThat(summary.getTotalAmount()).isEqualTo(14000);
+        assertThat(summary.getOrderCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("집계할 주문이 없으면 매출 합계와 주문 수는 0이다.")
+    void summarizeOrdersByIsEmpty() {
+        // when
+        OrderSalesSummary summary = orderRepository.summarizeOrdersBy(
+                LocalDateTime.of(2023, 11, 5, 0, 0),
+                LocalDateTime.of(2023, 11, 6, 0, 0),
+                OrderStatus.PAYMENT_COMPLETED
+        );
+
+        // then
+        assertThat(summary.getTotalAmount()).isZero();
+        assertThat(summary.getOrderCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("주문시간 범위와 주문상태로 상품 타입별 판매 금액과 수량을 집계한다.")
+    void summarizeProductTypesBy() {
+        // given
+        Product americano = createProduct("001", ProductType.HANDMADE, 4000);
+        Product croissant = createProduct("002", ProductType.BAKERY, 3000);
+        Product water = createProduct("003", ProductType.BOTTLE, 1000);
+        productRepository.saveAll(List.of(americano, croissant, water));
+        orderRepository.saveAll(List.of(
+                createOrder(List.of(americano, americano, croissant), OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 11, 5, 10, 0)),
+                createOrder(List.of(croissant), OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 11, 5, 11, 0)),
+                createOrder(List.of(water), OrderStatus.CANCELED, LocalDateTime.of(2023, 11, 5, 12, 0))
+        ));
+
+        // when
+        List<ProductTypeSalesSummary> summaries = orderRepository.summarizeProductTypesBy(
+                LocalDateTime.of(2023, 11, 5, 0, 0),
+                LocalDateTime.of(2023, 11, 6, 0, 0),
+                OrderStatus.PAYMENT_COMPLETED
+        );
+
+        // then
+        assertThat(summaries).hasSize(2)
+                .extracting("type", "totalAmount", "productCount")
+                .containsExactlyInAnyOrder(
+                        Tuple.tuple(ProductType.HANDMADE, 8000L, 2L),
+                        Tuple.tuple(ProductType.BAKERY, 6000L, 2L)
+                );
+    }
+
+    @Test
+    @DisplayName("상품 타입별 판매 금액은 상품 가격이 바뀌어도 주문 당시 가격으로 집계한다.")
+    void summarizeProductTypesByWithChangedPrice() {
+        // given
+        Product americano = createProduct("001", ProductType.HANDMADE, 4000);
+        productRepository.save(americano);
+        orderRepository.saveAllAndFlush(List.of(
+                createOrder(List.of(americano, americano), OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 11, 5, 10, 0))
+        ));
+        jdbcTemplate.update("update product set price = 5000 where id = ?", americano.getId());
+
+        // when
+        List<ProductTypeSalesSummary> summaries = orderRepository.summarizeProductTypesBy(
+                LocalDateTime.of(2023, 11, 5, 0, 0),
+                LocalDateTime.of(2023, 11, 6, 0, 0),
+                OrderStatus.PAYMENT_COMPLETED
+        );
+
+        // then
+        assertThat(summaries).hasSize(1)
+                .extracting("type", "totalAmount", "productCount")
+                .containsExactly(
+                        Tuple.tuple(ProductType.HANDMADE, 8000L, 2L)
+                );
+    }
+
+    private Order createOrder(List<Product> products, OrderStatus orderStatus, LocalDateTime registeredDateTime) {
+        return Order.builder()
+                .products(products)
+                .orderStatus(orderStatus)
+                .registeredDateTime(registeredDateTime)
+                .build();
+    }
+
+    @Test
+    @DisplayName("주문 요약을 (주문시간, id) 역순으로 조회하고, 마지막으로 읽은 주문 다음부터 이어서 조회한다.")
+    void findOrderSummariesBy() {
+        // given
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 11, 6, 10, 0);
+        Product product = productRepository.save(createProduct("001", ProductType.HANDMADE, 4000));
+
+        Order order1 = Order.create(List.of(product), registeredDateTime);
+        Order order2 = Order.create(List.of(product), registeredDateTime.plusMinutes(1));
+        Order order3 = Order.create(List.of(product), registeredDateTime.plusMinutes(1));
+        Order order4 = Order.create(List.of(product), registeredDateTime.plusMinutes(2));
+        order3.changeOrderStatus(OrderStatus.CANCELED);
+        orderRepository.saveAllAndFlush(List.of(order1, order2, order3, order4));
+
+        // when
+        List<OrderSummary> firstPage = orderRepository.findOrderSummariesBy(null, null, null, 2);
+        OrderSummary last = firstPage.get(1);
+        List<OrderSummary> secondPage = orderRepository.findOrderSummariesBy(null, last.getRegisteredDateTime(), last.getId(), 2);
+        List<OrderSummary> initOrders = orderRepository.findOrderSummariesBy(OrderStatus.INIT, null, null, 10);
+
+        // then
+        assertThat(firstPage).extracting("id")
+                .containsExactly(order4.getId(), order3.getId());
+        assertThat(secondPage).extracting("id", "orderStatus", "totalPrice", "registeredDateTime")
+                .containsExactly(
+                        Tuple.tuple(order2.getId(), OrderStatus.INIT, 4000L, registeredDateTime.plusMinutes(1)),
+                        Tuple.tuple(order1.getId(), OrderStatus.INIT, 4000L, registeredDateTime)
+                );
+        assertThat(initOrders).extracting("id")
+                .containsExactly(order4.getId(), order2.getId(), order1.getId());
+    }
+
+    private Product createProduct(String productNumber, ProductType type, int price) {
+        return Product.builder()
+                .productNumber(productNumber)
+                .type(type)
+                .sellingStatus(ProductSellingStatus.SELLING)
+                .name("메뉴 이름")
+                .price(price)
+                .build();
+    }
+
     private Product createProduct() {
         return Product.builder()
                 .productNumber("001")
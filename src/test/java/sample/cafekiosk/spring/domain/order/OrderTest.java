@@ -26,10 +26,26 @@ class OrderTest {
         Order order = Order.create(products, LocalDateTime.now());
 
         //then
-        assertThat(order.getTotalPrice()).isEqualTo(3000);
+        assertThat(order.getTotalPrice()).isEqualTo(3000L);
 
     }
 
+    @Test
+    @DisplayName("주문의 총 금액은 int 범위를 넘어도 넘치지 않는다.")
+    void calculateTotalPriceOverIntRange() {
+        // given
+        List<Product> products = List.of(
+                createProduct("001", Integer.MAX_VALUE),
+                createProduct("002", Integer.MAX_VALUE)
+        );
+
+        // when
+        Order order = Order.create(products, LocalDateTime.now());
+
+        //then
+        assertThat(order.getTotalPrice()).isEqualTo(2L * Integer.MAX_VALUE);
+    }
+
     @Test
     @DisplayName("주문 생성시 주문 상태는 INIT이다.")
     void init() {
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 import sample.cafekiosk.spring.IntegrationTestSupport;
@@ -11,6 +13,7 @@ import sample.cafekiosk.spring.IntegrationTestSupport;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.groups.Tuple.tuple;
 import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.*;
 
@@ -69,30 +72,30 @@ class ProductRepositoryTest extends IntegrationTestSupport {
     }
 
     @Test
-    @DisplayName("가장 마지막으로 저장한 상품의 상품번호를 읽어온다.")
-    void findLatestProductNumber() {
+    @DisplayName("이미 등록된 상품번호로는 상품을 저장할 수 없다.")
+    void saveDuplicateProductNumber() {
         // given
-        String targetProductNumber = "003";
-        Product product1 = createProduct("001", SELLING, "아메리카노", 4000);
-        Product product2 = createProduct("002", HOLD, "카페라떼", 4500);
-        Product product3 = createProduct(targetProductNumber, STOP_SELLING, "팥빙수", 7000);
-        productRepository.saveAll(List.of(product1, product2, product3));
-
-        // when
-        String latestProductNumber = productRepository.findLatestProductNumber();
+        productRepository.saveAndFlush(createProduct("001", SELLING, "아메리카노", 4000));
 
-        //then
-        assertThat(latestProductNumber).isEqualTo(targetProductNumber);
+        // when // then
+        assertThatThrownBy(() -> productRepository.saveAndFlush(createProduct("001", HOLD, "카페라떼", 4500)))
+                .isInstanceOf(DataIntegrityViolationException.class);
     }
 
     @Test
-    @DisplayName("가장 마지막으로 저장한 상품의 상품번호를 읽어올 때, 상품이 하나도 없는 경우에는 null을 반환한다")
-    void findLatestProductNumberWhenProductIsEmpty() {
+    @DisplayName("상품번호를 큰 번호부터 읽어온다. 자릿수가 많은 번호가 더 크다.")
+    void findProductNumbersInDescendingOrder() {
+        // given
+        Product product1 = createProduct("001", SELLING, "아메리카노", 4000);
+        Product product2 = createProduct("1000", HOLD, "카페라떼", 4500);
+        Product product3 = createProduct("999", STOP_SELLING, "팥빙수", 7000);
+        productRepository.saveAll(List.of(product1, product2, product3));
+
         // when
-        String latestProductNumber = productRepository.findLatestProductNumber();
+        List<String> productNumbers = productRepository.findProductNumbersInDescendingOrder(PageRequest.of(0, 10));
 
         //then
-        assertThat(latestProductNumber).isNull();
+        assertThat(productNumbers).containsExactly("1000", "999", "001");
     }
 
     private Product createProduct(String productNumber, ProductSellingStatus sellingStatus, String name, int price) {
@@ -0,0 +1,64 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DailySalesRepositoryTest extends IntegrationTestSupport {
+
+    @Autowired
+    private DailySalesRepository dailySalesRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        dailySalesRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("여러 트랜잭션이 동시에 그날의 첫 매출을 기록해도 실패하지 않고 모두 한 행에 더해진다.")
+    void addSalesConcurrentlyOnNewDay() throws Exception {
+        // given
+        LocalDate salesDate = LocalDate.of(2023, 3, 1);
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CyclicBarrier barrier = new CyclicBarrier(threadCount);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                barrier.await();
+                transactionTemplate.executeWithoutResult(status -> dailySalesRepository.addSales(salesDate, 1000, 1));
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(dailySalesRepository.findById(salesDate)).hasValueSatisfying(dailySales -> {
+            assertThat(dailySales.getTotalAmount()).isEqualTo(threadCount * 1000L);
+            assertThat(dailySales.getOrderCount()).isEqualTo(threadCount);
+        });
+    }
+
+}
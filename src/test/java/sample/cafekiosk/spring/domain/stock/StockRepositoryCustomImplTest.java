@@ -0,0 +1,52 @@
+package sample.cafekiosk.spring.domain.stock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class StockRepositoryCustomImplTest {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+
+    private final StockRepositoryCustomImpl stockRepositoryCustom = new StockRepositoryCustomImpl(jdbcTemplate);
+
+    @Test
+    @DisplayName("바뀐 행이 없는 상품만 차감하지 못한 상품으로 돌려준다.")
+    void deductQuantitiesIfEnough() {
+        // given
+        given(jdbcTemplate.batchUpdate(anyString(), any(MapSqlParameterSource[].class)))
+                .willReturn(new int[]{1, 0});
+
+        // when
+        List<String> notUpdated = stockRepositoryCustom.deductQuantitiesIfEnough(Map.of("001", 1, "002", 2));
+
+        // then
+        assertThat(notUpdated).containsExactly("002");
+    }
+
+    @Test
+    @DisplayName("드라이버가 바뀐 행 수를 알려 주지 않으면 차감됐는지 알 수 없으므로 예외가 발생한다.")
+    void deductQuantitiesIfEnoughWithoutUpdateCount() {
+        // given
+        given(jdbcTemplate.batchUpdate(anyString(), any(MapSqlParameterSource[].class)))
+                .willReturn(new int[]{1, Statement.SUCCESS_NO_INFO});
+
+        // when // then
+        assertThatThrownBy(() -> stockRepositoryCustom.deductQuantitiesIfEnough(Map.of("001", 1, "002", 2)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("재고 차감 결과를 확인할 수 없습니다. productNumber=002, updatedCount=-2");
+    }
+
+}
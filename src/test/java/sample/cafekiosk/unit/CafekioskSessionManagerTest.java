@@ -0,0 +1,223 @@
+package sample.cafekiosk.unit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sample.cafekiosk.schedule.BusinessHours;
+import sample.cafekiosk.schedule.BusinessHoursRegistry;
+import sample.cafekiosk.unit.beverages.Americano;
+import sample.cafekiosk.unit.beverages.Latte;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CafekioskSessionManagerTest {
+
+    private final AtomicLong nanoClock = new AtomicLong();
+
+    @Test
+    @DisplayName("세션마다 장바구니를 따로 가진다.")
+    void execute() {
+        // given
+        CafekioskSessionManager sessionManager = createSessionManager(10);
+        String sessionId1 = sessionManager.open();
+        String sessionId2 = sessionManager.open();
+
+        // when
+        sessionManager.execute(sessionId1, cafekiosk -> {
+            cafekiosk.add(new Americano());
+            return null;
+        });
+        int totalPrice1 = sessionManager.execute(sessionId1, Cafekiosk::calculateTotalPrice);
+        int totalPrice2 = sessionManager.execute(sessionId2, Cafekiosk::calculateTotalPrice);
+
+        // then
+        assertThat(totalPrice1).isEqualTo(4000);
+        assertThat(totalPrice2).isZero();
+        assertThat(sessionManager.getActiveSessionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("만료 시간 동안 사용하지 않은 세션만 정리하고, 정리된 세션은 더 사용할 수 없다.")
+    void evictIdleSessions() {
+        // given
+        CafekioskSessionManager sessionManager = createSessionManager(10);
+        String idleSessionId = sessionManager.open();
+        String activeSessionId = sessionManager.open();
+
+        nanoClock.addAndGet(Duration.ofMinutes(3).toNanos());
+        sessionManager.execute(activeSessionId, cafekiosk -> cafekiosk.getBeverages().size());
+        nanoClock.addAndGet(Duration.ofMinutes(3).toNanos());
+
+        // when
+        int evicted = sessionManager.evictIdleSessions();
+
+        // then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(sessionManager.getEvictionCount()).isEqualTo(1);
+        assertThat(sessionManager.getActiveSessionCount()).isEqualTo(1);
+        assertThatThrownBy(() -> sessionManager.execute(idleSessionId, Cafekiosk::calculateTotalPrice))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않거나 만료된 주문 세션입니다.");
+    }
+
+    @Test
+    @DisplayName("세션 수가 상한에 닿으면 만료된 세션을 정리해 자리를 만들고, 자리가 없으면 새 세션을 열 수 없다.")
+    void openOverMaxSessions() {
+        // given
+        CafekioskSessionManager sessionManager = createSessionManager(2);
+        sessionManager.open();
+        nanoClock.addAndGet(Duration.ofMinutes(5).toNanos());
+        sessionManager.open();
+
+        // when
+        String sessionId = sessionManager.open();
+
+        // then
+        assertThat(sessionId).isNotNull();
+        assertThat(sessionManager.getEvictionCount()).isEqualTo(1);
+        assertThatThrownBy(sessionManager::open)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("동시에 열 수 있는 주문 세션 수를 넘었습니다.");
+    }
+
+    @Test
+    @DisplayName("세션을 닫으면 자리가 비고, 정리 횟수에는 포함하지 않는다.")
+    void close() {
+        // given
+        CafekioskSessionManager sessionManager = createSessionManager(1);
+        String sessionId = sessionManager.open();
+
+        // when
+        sessionManager.close(sessionId);
+
+        // then
+        assertThat(sessionManager.getActiveSessionCount()).isZero();
+        assertThat(sessionManager.getEvictionCount()).isZero();
+        assertThat(sessionManager.open()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("여러 단말이 동시에 세션을 열고 음료를 담아도 세션 수 상한과 세션별 총 금액이 맞는다.")
+    void concurrentSessions() throws Exception {
+        // given
+        int terminalCount = 2_000;
+        int maxSessions = 1_500;
+        CafekioskSessionManager sessionManager = createSessionManager(maxSessions);
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < terminalCount; i++) {
+            results.add(executorService.submit(() -> {
+                startLatch.await();
+                String sessionId;
+                try {
+                    sessionId = sessionManager.open();
+                } catch (IllegalStateException e) {
+                    return -1;
+                }
+                for (int j = 0; j < 10; j++) {
+                    sessionManager.execute(sessionId, cafekiosk -> {
+                        cafekiosk.add(new Latte());
+                        return null;
+                    });
+                }
+                return sessionManager.execute(sessionId, Cafekiosk::calculateTotalPrice);
+            }));
+        }
+
+        // when
+        startLatch.countDown();
+        List<Integer> totalPrices = new ArrayList<>();
+        for (Future<Integer> result : results) {
+            totalPrices.add(result.get(30, TimeUnit.SECONDS));
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(totalPrices.stream().filter(totalPrice -> totalPrice >= 0))
+                .hasSize(maxSessions)
+                .containsOnly(45000);
+        assertThat(sessionManager.getActiveSessionCount()).isEqualTo(maxSessions);
+    }
+
+    @Test
+    @DisplayName("세션 정리를 시작하면 주기적으로 만료된 세션을 정리한다.")
+    void startEviction() throws InterruptedException {
+        // given
+        try (CafekioskSessionManager sessionManager = new CafekioskSessionManager(Duration.ofMillis(50), 10)) {
+            sessionManager.open();
+
+            // when
+            sessionManager.startEviction(Duration.ofMillis(10));
+
+            // then
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sessionManager.getActiveSessionCount() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(sessionManager.getActiveSessionCount()).isZero();
+            assertThat(sessionManager.getEvictionCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("세션의 장바구니에는 정해진 종류 수까지만 음료를 담을 수 있고, 이미 담은 음료는 수량을 더 늘릴 수 있다.")
+    void executeOverMaxCartLines() {
+        // given
+        CafekioskSessionManager sessionManager = new CafekioskSessionManager(
+                Duration.ofMinutes(5), 10, 1, () -> Cafekiosk.DEFAULT_BUSINESS_HOURS, nanoClock::get);
+        String sessionId = sessionManager.open();
+        Americano americano = new Americano();
+        sessionManager.execute(sessionId, cafekiosk -> {
+            cafekiosk.add(americano);
+            return null;
+        });
+
+        // when // then
+        assertThatThrownBy(() -> sessionManager.execute(sessionId, cafekiosk -> {
+            cafekiosk.add(new Latte());
+            return null;
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("음료는 1종류까지 담으실 수 있습니다.");
+
+        sessionManager.execute(sessionId, cafekiosk -> {
+            cafekiosk.add(americano, 100);
+            return null;
+        });
+        assertThat(sessionManager.execute(sessionId, cafekiosk -> cafekiosk.getQuantity(americano))).isEqualTo(101);
+    }
+
+    @Test
+    @DisplayName("세션의 장바구니는 넘겨받은 영업시간으로 주문 가능 여부를 판단한다.")
+    void executeWithRegisteredBusinessHours() {
+        // given
+        BusinessHoursRegistry registry = new BusinessHoursRegistry();
+        registry.register("gangnam", BusinessHours.parse("MON-SUN 07:00-22:00"));
+        CafekioskSessionManager sessionManager = new CafekioskSessionManager(
+                Duration.ofMinutes(5), 10, 10, () -> registry.get("gangnam"), nanoClock::get);
+        String sessionId = sessionManager.open();
+
+        // when
+        int beverageCount = sessionManager.execute(sessionId, cafekiosk -> {
+            cafekiosk.add(new Americano());
+            return cafekiosk.createOrder(LocalDateTime.of(2023, 1, 17, 8, 0)).getBeverages().size();
+        });
+
+        // then
+        assertThat(beverageCount).isEqualTo(1);
+    }
+
+    private CafekioskSessionManager createSessionManager(int maxSessions) {
+        return new CafekioskSessionManager(Duration.ofMinutes(5), maxSessions, 50, () -> Cafekiosk.DEFAULT_BUSINESS_HOURS, nanoClock::get);
+    }
+
+}
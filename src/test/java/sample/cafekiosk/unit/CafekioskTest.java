@@ -2,6 +2,8 @@ package sample.cafekiosk.unit;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import sample.cafekiosk.schedule.BusinessHours;
+import sample.cafekiosk.schedule.BusinessHoursRegistry;
 import sample.cafekiosk.unit.beverages.Americano;
 import sample.cafekiosk.unit.beverages.Latte;
 import sample.cafekiosk.unit.order.Order;
@@ -101,6 +103,84 @@ class CafekioskTest {
         assertThat(totalPrice).isEqualTo(8500);
     }
 
+    @Test
+    @DisplayName("같은 음료를 여러 번 담으면 한 줄에 수량으로 모이고, 빼면 수량과 총 금액이 함께 줄어든다.")
+    void addAndRemoveSameBeverage() {
+        // given
+        Cafekiosk cafekiosk = new Cafekiosk();
+        Americano americano = new Americano();
+        Latte latte = new Latte();
+
+        cafekiosk.add(americano, 300);
+        cafekiosk.add(latte);
+        cafekiosk.add(americano);
+
+        // when
+        cafekiosk.remove(americano);
+        cafekiosk.remove(latte);
+        cafekiosk.remove(latte);
+
+        // then
+        assertThat(cafekiosk.getQuantity(americano)).isEqualTo(300);
+        assertThat(cafekiosk.getQuantity(latte)).isZero();
+        assertThat(cafekiosk.getBeverages()).hasSize(300)
+                .containsOnly(americano);
+        assertThat(cafekiosk.calculateTotalPrice()).isEqualTo(300 * 4000);
+    }
+
+    @Test
+    @DisplayName("따로 만든 음료라도 같은 음료면 한 줄에 수량으로 모이고, 어느 인스턴스로든 뺄 수 있다.")
+    void addAndRemoveSeparateInstancesOfSameBeverage() {
+        // given
+        Cafekiosk cafekiosk = new Cafekiosk();
+        cafekiosk.add(new Americano());
+        cafekiosk.add(new Latte());
+        cafekiosk.add(new Americano(), 2);
+
+        // when
+        cafekiosk.remove(new Americano());
+
+        // then
+        assertThat(cafekiosk.getQuantity(new Americano())).isEqualTo(2);
+        assertThat(cafekiosk.getBeverages()).hasSize(3)
+                .extracting("name")
+                .containsExactly("아메리카노", "아메리카노", "라떼");
+        assertThat(cafekiosk.calculateTotalPrice()).isEqualTo(2 * 4000 + 4500);
+        assertThat(cafekiosk.createOrder(LocalDateTime.of(2023, 1, 17, 10, 0)).getLines()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("주문 목록을 비우면 총 금액도 0원이 된다.")
+    void calculateTotalPriceAfterClear() {
+        // given
+        Cafekiosk cafekiosk = new Cafekiosk();
+        cafekiosk.add(new Americano(), 2);
+        cafekiosk.add(new Latte());
+
+        // when
+        cafekiosk.clear();
+
+        // then
+        assertThat(cafekiosk.calculateTotalPrice()).isZero();
+    }
+
+    @Test
+    @DisplayName("주문을 만든 뒤 주문 목록을 바꿔도 이미 만든 주문의 음료는 바뀌지 않는다.")
+    void createOrderThenClear() {
+        // given
+        Cafekiosk cafekiosk = new Cafekiosk();
+        Americano americano = new Americano();
+        cafekiosk.add(americano, 2);
+        Order order = cafekiosk.createOrder(LocalDateTime.of(2023, 1, 17, 10, 0));
+
+        // when
+        cafekiosk.clear();
+
+        // then
+        assertThat(order.getBeverages()).hasSize(2)
+                .containsOnly(americano);
+    }
+
     @Test
     void createOrder() {
         Cafekiosk cafekiosk = new Cafekiosk();
@@ -139,12 +219,26 @@ class CafekioskTest {
                 .hasMessage("주문 시간이 아닙니다. 관리자에게 문의하세요.");
     }
 
-}
-
-
-
-
+    @Test
+    @DisplayName("영업시간을 바꾸면 다음 주문부터 바뀐 영업시간으로 주문 가능 여부를 판단한다.")
+    void createOrderWithReplacedBusinessHours() {
+        // given
+        BusinessHoursRegistry registry = new BusinessHoursRegistry();
+        registry.register("gangnam", BusinessHours.parse("MON-SUN 10:00-22:00"));
+        Cafekiosk cafekiosk = new Cafekiosk(() -> registry.get("gangnam"));
+        cafekiosk.add(new Americano());
+        LocalDateTime earlyMorning = LocalDateTime.of(2023, 1, 17, 8, 0);
 
+        assertThatThrownBy(() -> cafekiosk.createOrder(earlyMorning))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문 시간이 아닙니다. 관리자에게 문의하세요.");
 
+        // when
+        registry.register("gangnam", BusinessHours.parse("MON-SUN 07:00-22:00"));
+        Order order = cafekiosk.createOrder(earlyMorning);
 
+        // then
+        assertThat(order.getBeverages()).hasSize(1);
+    }
 
+}
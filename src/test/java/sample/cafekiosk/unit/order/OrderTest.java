@@ -0,0 +1,124 @@
+package sample.cafekiosk.unit.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sample.cafekiosk.unit.Beverage;
+import sample.cafekiosk.unit.Cafekiosk;
+import sample.cafekiosk.unit.beverages.Americano;
+import sample.cafekiosk.unit.beverages.Latte;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderTest {
+
+    private static final LocalDateTime ORDER_DATE_TIME = LocalDateTime.of(2023, 1, 17, 10, 0);
+
+    @Test
+    @DisplayName("주문의 음료 목록은 줄별 수량대로 한 잔씩 펼쳐지고, 총 금액은 줄별 금액의 합이다.")
+    void beverages() {
+        // given
+        Americano americano = new Americano();
+        Latte latte = new Latte();
+
+        // when
+        Order order = new Order(ORDER_DATE_TIME, List.of(
+                new OrderLine(americano, 2),
+                new OrderLine(latte, 3)
+        ));
+
+        // then
+        assertThat(order.getBeverages()).containsExactly(americano, americano, latte, latte, latte);
+        assertThat(order.getTotalPrice()).isEqualTo(2 * 4000 + 3 * 4500);
+    }
+
+    @Test
+    @DisplayName("주문의 음료 목록과 줄 목록은 바꿀 수 없다.")
+    void immutable() {
+        // given
+        Americano americano = new Americano();
+        List<OrderLine> lines = new ArrayList<>(List.of(new OrderLine(americano, 1)));
+        Order order = new Order(ORDER_DATE_TIME, lines);
+
+        // when
+        lines.add(new OrderLine(new Latte(), 1));
+
+        // then
+        assertThat(order.getLines()).hasSize(1);
+        assertThatThrownBy(() -> order.getBeverages().add(americano))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> order.getLines().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("주문한 뒤 장바구니에 음료를 더 담거나 비워도 이미 만든 주문은 바뀌지 않는다.")
+    void isolatedFromCafekiosk() {
+        // given
+        Cafekiosk cafekiosk = new Cafekiosk();
+        Americano americano = new Americano();
+        cafekiosk.add(americano, 2);
+        Order order = cafekiosk.createOrder(ORDER_DATE_TIME);
+
+        // when
+        cafekiosk.add(americano, 3);
+        cafekiosk.add(new Latte());
+        Order nextOrder = cafekiosk.createOrder(ORDER_DATE_TIME);
+        cafekiosk.clear();
+
+        // then
+        assertThat(order.getBeverages()).hasSize(2).containsOnly(americano);
+        assertThat(order.getTotalPrice()).isEqualTo(8000);
+        assertThat(nextOrder.getBeverages()).hasSize(6);
+        assertThat(nextOrder.getTotalPrice()).isEqualTo(5 * 4000 + 4500);
+    }
+
+    @Test
+    @DisplayName("다른 스레드가 주문을 읽는 동안 장바구니를 계속 바꿔도 각 스레드는 주문한 시점의 내용만 본다.")
+    void isolatedAcrossThreads() throws Exception {
+        // given
+        int orderCount = 200;
+        Cafekiosk cafekiosk = new Cafekiosk();
+        Americano americano = new Americano();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // when
+        for (int i = 1; i <= orderCount; i++) {
+            cafekiosk.clear();
+            cafekiosk.add(americano, i);
+            Order order = cafekiosk.createOrder(ORDER_DATE_TIME);
+            int expectedQuantity = i;
+
+            results.add(executorService.submit(() -> readRepeatedly(order, expectedQuantity)));
+        }
+        cafekiosk.clear();
+
+        // then
+        for (Future<Boolean> result : results) {
+            assertThat(result.get(30, TimeUnit.SECONDS)).isTrue();
+        }
+        executorService.shutdown();
+    }
+
+    private boolean readRepeatedly(Order order, int expectedQuantity) {
+        for (int i = 0; i < 100; i++) {
+            List<Beverage> beverages = order.getBeverages();
+            if (beverages.size() != expectedQuantity || order.getTotalPrice() != expectedQuantity * 4000) {
+                return false;
+            }
+            for (Beverage beverage : beverages) {
+                if (beverage.getPrice() != 4000) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+}